@@ -11,11 +11,43 @@ val restAssuredVersion = "5.5.2"
 val slf4jVersion = "2.0.7"
 val testngVersion = "7.9.0"
 val jsonVersion = "20230227"
+val jmhCoreVersion = "1.37"
 val javaVersion = "21"
+// TestNG suite file under src/test/resources, e.g. -P suite=testng-parallel
+val testSuite = project.findProperty("suite")?.toString() ?: "testng"
+// TestConfig settings passed from -P to the test and load JVMs as system properties, e.g. -P http.pool.max.total=100
+val forwardedSettings = listOf(
+    "env", "api.key",
+    "request.timeout", "connect.timeout", "http.pool.max.total", "http.pool.max.per.route",
+    "test.thread.count", "test.data.provider.thread.count",
+    "test.shard.index", "test.shard.count", "test.durations.dir",
+    "rate.limit.per.second", "rate.limit.burst", "rate.limit.min.per.second",
+    "retry.max.attempts", "retry.base.delay.ms", "retry.max.delay.ms",
+    "load.concurrency", "load.rate", "load.duration",
+    "soak.duration", "soak.sample.interval", "soak.warmup", "soak.heap.growth.max.mb",
+    "http.mode", "http.recordings.dir",
+    "allure.capture.mode", "allure.capture.sample.every", "allure.capture.max.body.bytes", "allure.capture.async",
+    "data.users.count", "data.users.seed", "data.users.batch.size",
+    "latency.samples"
+)
+val forwardSettings: JavaForkOptions.() -> Unit = {
+    forwardedSettings.forEach { key ->
+        project.findProperty(key)?.let { systemProperty(key, it.toString()) }
+    }
+}
+// Record the JVM with Java Flight Recorder into build/jfr/<recording>.jfr, next to allure-results: -P jfr
+// (-P jfr.settings=default for lower overhead); the API request and test data events are in category ReqRes
+val jfrEnabled = project.findProperty("jfr")?.toString()?.let { it != "false" } ?: false
+val jfrSettings = project.findProperty("jfr.settings")?.toString() ?: "profile"
+val jfrDir = layout.buildDirectory.dir("jfr")
+fun flightRecordingArgs(recording: String): List<String> = if (!jfrEnabled) emptyList() else listOf(
+    "-XX:StartFlightRecording=filename=${jfrDir.get().asFile.absolutePath}/$recording.jfr,settings=$jfrSettings,dumponexit=true"
+)
 
 plugins {
     id("java")
     id("io.qameta.allure") version "2.11.2"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.reqres"
@@ -44,15 +76,185 @@ java {
     }
 }
 
+// Compile the JSON fixtures into binary indexes that TestDataLoader memory-maps instead of parsing JSON
+val testDataIndexDir = layout.buildDirectory.dir("generated/testdata-index")
+val compileTestDataIndex = tasks.register<JavaExec>("compileTestDataIndex") {
+    group = "build"
+    description = "Compiles src/test/resources/testdata/*.json into binary test data indexes"
+    val fixtureDir = file("src/test/resources/testdata")
+    val indexDir = testDataIndexDir.map { it.dir("testdata") }
+    inputs.dir(fixtureDir)
+    outputs.dir(indexDir)
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.reqres.util.data.TestDataIndexCompiler")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    })
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(fixtureDir.absolutePath, indexDir.get().asFile.absolutePath)
+    })
+}
+sourceSets["test"].output.dir(mapOf("builtBy" to compileTestDataIndex), testDataIndexDir)
+
 tasks.test {
     useTestNG(){
-        suites("src/test/resources/testng.xml")
+        suites("src/test/resources/$testSuite.xml")
         systemProperties = mapOf(
-            "allure.results.directory" to "${project.buildDir}/allure-results"
+            "allure.results.directory" to "${project.buildDir}/allure-results",
+            "latency.report.dir" to "${project.buildDir}/reports/latency"
         )
     }
+    forwardSettings()
+    jvmArgs(flightRecordingArgs("test"))
+    doFirst { jfrDir.get().asFile.mkdirs() }
     // Configure Allure report generation
-    finalizedBy("allureReport")
+    finalizedBy("allureReport", "checkLatencyBaseline")
+}
+
+// Run the suite as duration-balanced shards, one JVM per shard in parallel: ./gradlew testShards -P test.forks=4
+// Test tasks of one project never run concurrently, so the shard JVMs are started by this task itself
+tasks.register("testShards") {
+    group = "verification"
+    description = "Runs the TestNG suite split into duration-balanced shards in parallel JVMs"
+    dependsOn("testClasses")
+    val forks = (project.findProperty("test.forks")?.toString() ?: "2").toInt()
+    val launcher = javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+    val testClasspath = sourceSets["test"].runtimeClasspath
+    val suiteFile = file("src/test/resources/$testSuite.xml")
+    val shardDir = layout.buildDirectory.dir("test-results/shards")
+    doLast {
+        val outputDir = shardDir.get().asFile.apply { mkdirs() }
+        jfrDir.get().asFile.mkdirs()
+        // Plans of an earlier run would be checked together with this run's
+        fileTree("${project.buildDir}/allure-results") { include("shard-plan-*.json") }.forEach { it.delete() }
+        val settings = forwardedSettings.mapNotNull { key -> project.findProperty(key)?.let { "-D$key=$it" } }
+        val processes = (0 until forks).map { index ->
+            ProcessBuilder(
+                listOf(launcher.get().executablePath.asFile.absolutePath, "-cp", testClasspath.asPath) + settings
+                        + flightRecordingArgs("shard-$index") + listOf(
+                    // Every shard writes into the same Allure results directory; result files have unique names
+                    "-Dallure.results.directory=${project.buildDir}/allure-results",
+                    "-Dlatency.report.dir=${project.buildDir}/reports/latency/shard-$index",
+                    "-Dtest.shard.index=$index",
+                    "-Dtest.shard.count=$forks",
+                    "org.testng.TestNG", "-d", File(outputDir, "shard-$index").absolutePath, suiteFile.absolutePath
+                )
+            )
+                .directory(projectDir)
+                .redirectErrorStream(true)
+                .redirectOutput(File(outputDir, "shard-$index.log"))
+                .start()
+        }
+        val failed = processes.withIndex().filter { (_, process) -> process.waitFor() != 0 }.map { it.index }
+        if (failed.isNotEmpty()) {
+            throw GradleException("Shards $failed failed, see $outputDir/shard-<index>.log")
+        }
+    }
+    finalizedBy("checkShardPlans", "allureReport")
+}
+
+// Collect allure-results from sharded CI nodes before allureReport: -P allure.shard.results=dir1,dir2
+tasks.register<Copy>("mergeAllureResults") {
+    group = "reporting"
+    description = "Copies the allure-results of every shard into build/allure-results"
+    val shardResults = project.findProperty("allure.shard.results")?.toString()?.split(",").orEmpty()
+    shardResults.filter { it.isNotBlank() }.forEach { from(it.trim()) }
+    into(layout.buildDirectory.dir("allure-results"))
+    finalizedBy("checkShardPlans", "allureReport")
+}
+
+// Fail when the shards' plans in build/allure-results do not cover the suite exactly once, e.g. because the
+// nodes restored different test durations
+tasks.register<JavaExec>("checkShardPlans") {
+    group = "verification"
+    description = "Checks that the shards of a run together ran every test method once"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.reqres.util.shard.ShardPlanCheck")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    })
+    args("${project.buildDir}/allure-results")
+}
+
+// Compare the run's latency summary with baselines/latency-<env>.json (latency-<env>-<suite>.json for other suites);
+// -P latency.baseline.mode=update rewrites it
+tasks.register<JavaExec>("checkLatencyBaseline") {
+    group = "verification"
+    description = "Fails the build when endpoint latency regresses past the committed baseline"
+    // Replayed responses never touch the network, so their latency says nothing about the API
+    onlyIf {
+        (project.findProperty("http.mode")?.toString() ?: System.getenv("REQRES_HTTP_MODE")).orEmpty().lowercase() != "replay"
+    }
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.reqres.perf.LatencyBaselineCheck")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    })
+    // Same lookup as TestConfig, so the baseline matches the environment the tests ran against
+    val env = project.findProperty("env")?.toString() ?: System.getenv("REQRES_ENV") ?: "prod"
+    // Each suite loads the API differently, so each gets its own baseline
+    val baselineName = if (testSuite == "testng") "latency-$env" else "latency-$env-$testSuite"
+    args(
+        "${project.buildDir}/reports/latency/latency-summary.json",
+        file("baselines/$baselineName.json").absolutePath
+    )
+    listOf(
+        "latency.baseline.mode", "latency.baseline.tolerance", "latency.baseline.slack.ms",
+        "latency.baseline.min.requests", "latency.baseline.runs"
+    ).forEach { key ->
+        project.findProperty(key)?.let { systemProperty(key, it.toString()) }
+    }
+}
+
+// Replay the UserApiTests scenarios as load, e.g. ./gradlew loadTest -P load.concurrency=200 -P load.duration=60
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the user CRUD scenarios as load on virtual threads and reports latency percentiles"
+    // Test resources hold the environment properties and test data
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.reqres.perf.load.LoadRunner")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    })
+    systemProperty("load.report.dir", "${project.buildDir}/reports/load")
+    forwardSettings()
+    jvmArgs(flightRecordingArgs("loadTest"))
+    doFirst { jfrDir.get().asFile.mkdirs() }
+}
+
+// Repeat the scenarios for hours and fail if the harness heap keeps growing, e.g. ./gradlew soakTest -P soak.duration=14400
+tasks.register<JavaExec>("soakTest") {
+    group = "verification"
+    description = "Repeats the user CRUD scenarios for soak.duration while sampling heap, allocation, threads and connections"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("com.reqres.perf.load.SoakRunner")
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    })
+    systemProperty("soak.report.dir", "${project.buildDir}/reports/soak")
+    forwardSettings()
+    jvmArgs(flightRecordingArgs("soakTest"))
+    doFirst { jfrDir.get().asFile.mkdirs() }
+}
+
+// Benchmarks in src/jmh measure the framework's own client-side overhead: ./gradlew jmh
+sourceSets.named("jmh") {
+    // Benchmarks read the same test data file as the suite
+    resources.srcDir("src/test/resources")
+}
+
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // Reports allocated bytes per operation (gc.alloc.rate.norm) next to the timings
+    profilers.add("gc")
+    // Machine-readable results for comparing runs between commits
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
 }
 
 allure {
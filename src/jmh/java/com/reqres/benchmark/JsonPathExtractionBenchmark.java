@@ -0,0 +1,68 @@
+package com.reqres.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import io.restassured.path.json.JsonPath;
+
+/**
+ * Benchmarks for the JsonPath extractions originally used in UserApiTests, including parsing the response body.
+ * TypedExtractionBenchmark measures the record-based replacement on the same payloads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonPathExtractionBenchmark {
+    
+    static final String EMAIL = "charles.morris@reqres.in";
+    
+    private final String listResponse = "{\"page\":1,\"per_page\":6,\"total\":12,\"total_pages\":2,\"data\":["
+            + user(1, "george.bluth@reqres.in", "George", "Bluth") + ","
+            + user(2, "janet.weaver@reqres.in", "Janet", "Weaver") + ","
+            + user(3, "emma.wong@reqres.in", "Emma", "Wong") + ","
+            + user(4, "eve.holt@reqres.in", "Eve", "Holt") + ","
+            + user(5, EMAIL, "Charles", "Morris") + ","
+            + user(6, "tracey.ramos@reqres.in", "Tracey", "Ramos") + "]}";
+    
+    private final String singleResponse = "{\"data\":" + user(5, EMAIL, "Charles", "Morris") + "}";
+    
+    @Benchmark
+    public List<Integer> findIdByEmail() {
+        return new JsonPath(listResponse).getList("data.findAll { user -> user.email == '" + EMAIL + "' }.id");
+    }
+    
+    @Benchmark
+    public String getSingleUserEmail() {
+        return new JsonPath(singleResponse).getString("data.email");
+    }
+    
+    @Benchmark
+    public String[] getSingleUserFields() {
+        JsonPath jsonPath = new JsonPath(singleResponse);
+        return new String[] {
+                jsonPath.getString("data.email"),
+                jsonPath.getString("data.first_name"),
+                jsonPath.getString("data.last_name")
+        };
+    }
+    
+    String listResponse() {
+        return listResponse;
+    }
+    
+    String singleResponse() {
+        return singleResponse;
+    }
+    
+    private static String user(int id, String email, String firstName, String lastName) {
+        return "{\"id\":" + id + ",\"email\":\"" + email + "\",\"first_name\":\"" + firstName
+                + "\",\"last_name\":\"" + lastName + "\",\"avatar\":\"https://reqres.in/img/faces/" + id + "-image.jpg\"}";
+    }
+}
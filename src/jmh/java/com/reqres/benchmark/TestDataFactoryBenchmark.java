@@ -0,0 +1,52 @@
+package com.reqres.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.reqres.util.data.TestDataFactory;
+import com.reqres.util.data.UserPayloadEncoder;
+
+/**
+ * Benchmarks for building request payloads the way the create and update tests do
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TestDataFactoryBenchmark {
+    
+    private String name = "John Doe";
+    private String job = "Software Tester";
+    
+    @Benchmark
+    public JSONObject createUserData() {
+        return TestDataFactory.createUserData(name, job);
+    }
+    
+    @Benchmark
+    public String createUserDataToString() {
+        return TestDataFactory.createUserData(name, job).toString();
+    }
+    
+    @Benchmark
+    public byte[] createUserDataToBytes() {
+        return TestDataFactory.createUserData(name, job).toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Benchmark
+    public byte[] encodeUserBody() {
+        return UserPayloadEncoder.userBody(name, job);
+    }
+    
+    @Benchmark
+    public int encodeUserBodyInPlace() {
+        return UserPayloadEncoder.forCurrentThread().encode(name, job).length();
+    }
+}
@@ -0,0 +1,50 @@
+package com.reqres.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.reqres.util.data.TestDataLoader;
+
+/**
+ * Benchmarks for loading the test data file and reading its sections, cold (cache cleared) and warm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TestDataLoaderBenchmark {
+    
+    @Setup
+    public void warmUp() {
+        TestDataLoader.getUserData();
+    }
+    
+    @Benchmark
+    public JSONObject loadTestDataCold() {
+        TestDataLoader.clearCache();
+        return TestDataLoader.loadTestData();
+    }
+    
+    @Benchmark
+    public JSONObject loadTestDataWarm() {
+        return TestDataLoader.loadTestData();
+    }
+    
+    @Benchmark
+    public JSONObject getSectionCold() {
+        TestDataLoader.clearCache();
+        return TestDataLoader.getSection("users");
+    }
+    
+    @Benchmark
+    public JSONObject getSectionWarm() {
+        return TestDataLoader.getSection("users");
+    }
+}
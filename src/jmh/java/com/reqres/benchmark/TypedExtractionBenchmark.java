@@ -0,0 +1,35 @@
+package com.reqres.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.reqres.util.api.model.User;
+import com.reqres.util.api.model.UserResponses;
+
+/**
+ * Benchmarks for the typed record extraction used in UserApiTests, on the same payloads as JsonPathExtractionBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypedExtractionBenchmark {
+    
+    private final JsonPathExtractionBenchmark payloads = new JsonPathExtractionBenchmark();
+    
+    @Benchmark
+    public List<Integer> findIdByEmail() {
+        return UserResponses.userPage(payloads.listResponse()).idsByEmail(JsonPathExtractionBenchmark.EMAIL);
+    }
+    
+    @Benchmark
+    public User getSingleUserFields() {
+        return UserResponses.singleUser(payloads.singleResponse());
+    }
+}
@@ -0,0 +1,26 @@
+package com.reqres.config;
+
+import java.util.List;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+/**
+ * Applies the configured TestNG thread counts to every suite before it runs, so they can be tuned per
+ * environment (test.thread.count, test.data.provider.thread.count) instead of in the suite files.
+ * A count of 0 keeps the value from the suite file.
+ */
+public class SuiteThreadCountListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        for (XmlSuite suite : suites) {
+            if (TestConfig.TEST_THREAD_COUNT > 0) {
+                suite.setThreadCount(TestConfig.TEST_THREAD_COUNT);
+            }
+            if (TestConfig.TEST_DATA_PROVIDER_THREAD_COUNT > 0) {
+                suite.setDataProviderThreadCount(TestConfig.TEST_DATA_PROVIDER_THREAD_COUNT);
+            }
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.reqres.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Properties;
 
+import com.reqres.util.server.LocalReqResServer;
+
 /**
  * Configuration class for API endpoints.
  * Loads configuration values from environment.properties file.
@@ -12,6 +16,9 @@ public final class TestConfig {
     
     private static final Properties properties = new Properties();
     
+    // Prefix of the environment variables that override settings, e.g. REQRES_ENV or REQRES_HTTP_MODE
+    private static final String ENVIRONMENT_VARIABLE_PREFIX = "REQRES_";
+    
     /**
      * Base URL for the ReqRes API in the production environment.
      */
@@ -28,10 +35,188 @@ public final class TestConfig {
     public static final String BASE_URL;
     
     /**
-     * Timeout value for API requests in milliseconds.
+     * API key sent in the x-api-key header of every request.
+     */
+    public static final String API_KEY;
+    
+    /**
+     * Read (socket) timeout for API requests in milliseconds.
      */
     public static final int REQUEST_TIMEOUT;
     
+    /**
+     * Timeout for establishing a TCP connection in milliseconds.
+     */
+    public static final int CONNECT_TIMEOUT;
+    
+    /**
+     * Maximum number of pooled HTTP connections across all routes.
+     */
+    public static final int HTTP_POOL_MAX_TOTAL;
+    
+    /**
+     * Maximum number of pooled HTTP connections per route (host and port).
+     */
+    public static final int HTTP_POOL_MAX_PER_ROUTE;
+    
+    /**
+     * TestNG method thread count applied to every suite; 0 keeps the suite file's thread-count.
+     */
+    public static final int TEST_THREAD_COUNT;
+    
+    /**
+     * TestNG data provider thread count applied to every suite; 0 keeps the suite file's value.
+     */
+    public static final int TEST_DATA_PROVIDER_THREAD_COUNT;
+    
+    /**
+     * Zero-based index of the shard this JVM runs.
+     */
+    public static final int TEST_SHARD_INDEX;
+    
+    /**
+     * Number of shards the suite is split into; 1 runs the whole suite.
+     */
+    public static final int TEST_SHARD_COUNT;
+    
+    /**
+     * Directory holding test durations of previous runs, used to balance shards.
+     */
+    public static final String TEST_DURATIONS_DIR;
+    
+    /**
+     * Allure results directory; sharded runs also leave their shard plans there, so they are merged with the results.
+     */
+    public static final String ALLURE_RESULTS_DIR;
+    
+    /**
+     * Number of virtual users of a load run.
+     */
+    public static final int LOAD_CONCURRENCY;
+    
+    /**
+     * Total requests per second of a load run; 0 runs unthrottled.
+     */
+    public static final double LOAD_RATE;
+    
+    /**
+     * How long a load run generates load.
+     */
+    public static final Duration LOAD_DURATION;
+    
+    /**
+     * How long a soak run repeats the scenarios.
+     */
+    public static final Duration SOAK_DURATION;
+    
+    /**
+     * Time between two resource samples of a soak run.
+     */
+    public static final Duration SOAK_SAMPLE_INTERVAL;
+    
+    /**
+     * Start of a soak run left out of the growth check while caches and pools fill up.
+     */
+    public static final Duration SOAK_WARMUP;
+    
+    /**
+     * Heap growth after GC, in megabytes over the post-warmup baseline, that fails a soak run.
+     */
+    public static final long SOAK_HEAP_GROWTH_MAX_MB;
+    
+    /**
+     * Sustained request rate allowed by the shared rate limiter, in requests per second; 0 disables it.
+     */
+    public static final double RATE_LIMIT_PER_SECOND;
+    
+    /**
+     * Number of requests the rate limiter lets through in a burst.
+     */
+    public static final int RATE_LIMIT_BURST;
+    
+    /**
+     * Lowest rate the limiter backs off to after 429 responses, in requests per second.
+     */
+    public static final double RATE_LIMIT_MIN_PER_SECOND;
+    
+    /**
+     * Maximum number of retries of an idempotent request after a 429 response.
+     */
+    public static final int RETRY_MAX_ATTEMPTS;
+    
+    /**
+     * Base delay of the exponential retry backoff in milliseconds.
+     */
+    public static final long RETRY_BASE_DELAY_MS;
+    
+    /**
+     * Upper bound of a single retry delay in milliseconds.
+     */
+    public static final long RETRY_MAX_DELAY_MS;
+    
+    /**
+     * Whether the in-process local ReqRes server backs this run (the "local" environment).
+     */
+    public static final boolean LOCAL_SERVER_ENABLED;
+    
+    /**
+     * Whether requests go to the API, are recorded to disk, or are replayed from disk.
+     */
+    public static final HttpMode HTTP_MODE;
+    
+    /**
+     * Directory holding recorded responses for the record and replay modes.
+     */
+    public static final String RECORDINGS_DIR;
+    
+    /**
+     * Which requests are attached to the Allure report.
+     */
+    public static final CaptureMode ALLURE_CAPTURE_MODE;
+    
+    /**
+     * In the sampled capture mode, every Nth request is attached (failures always are).
+     */
+    public static final int ALLURE_CAPTURE_SAMPLE_EVERY;
+    
+    /**
+     * Request and response bodies longer than this many bytes are truncated in attachments.
+     */
+    public static final int ALLURE_CAPTURE_MAX_BODY_BYTES;
+    
+    /**
+     * Whether attachment files are written by a background thread instead of the request thread.
+     */
+    public static final boolean ALLURE_CAPTURE_ASYNC;
+    
+    /**
+     * How requests reach the API.
+     */
+    public enum HttpMode {
+        /** Send every request to the API */
+        LIVE,
+        /** Send every request to the API and save each response to the recordings directory */
+        RECORD,
+        /** Answer every request from the recordings directory without touching the network */
+        REPLAY
+    }
+    
+    /**
+     * Which requests are attached to the Allure report.
+     */
+    public enum CaptureMode {
+        /** Full HTML request and response of every request, written synchronously by AllureRestAssured */
+        FULL,
+        /** Every request, as size-capped text */
+        ALL,
+        /** Every Nth request and every failed request, as size-capped text */
+        SAMPLED,
+        /** Only requests that failed or returned a 4xx/5xx status, as size-capped text */
+        FAILURES,
+        /** No requests */
+        NONE
+    }
+    
     // Static initializer to load properties when class is loaded
     static {
         loadProperties();
@@ -39,10 +224,50 @@ public final class TestConfig {
         // Initialize constants from properties
         PROD_BASE_URL = properties.getProperty("prod.base.url", "https://reqres.in/api");
         TEST_BASE_URL = properties.getProperty("test.base.url", "https://test.reqres.in/api");
-        REQUEST_TIMEOUT = Integer.parseInt(properties.getProperty("request.timeout", "5000"));
+        API_KEY = setting("api.key", "reqres-free-v1");
+        
+        // Performance settings: system property, then environment variable, then properties file
+        REQUEST_TIMEOUT = intSetting("request.timeout", 5000);
+        CONNECT_TIMEOUT = intSetting("connect.timeout", 3000);
+        HTTP_POOL_MAX_TOTAL = intSetting("http.pool.max.total", 50);
+        HTTP_POOL_MAX_PER_ROUTE = intSetting("http.pool.max.per.route", 20);
+        TEST_THREAD_COUNT = intSetting("test.thread.count", 0);
+        TEST_DATA_PROVIDER_THREAD_COUNT = intSetting("test.data.provider.thread.count", 0);
+        TEST_SHARD_INDEX = intSetting("test.shard.index", 0);
+        TEST_SHARD_COUNT = Math.max(1, intSetting("test.shard.count", 1));
+        TEST_DURATIONS_DIR = setting("test.durations.dir", "build/test-durations");
+        ALLURE_RESULTS_DIR = setting("allure.results.directory", "allure-results");
+        RATE_LIMIT_PER_SECOND = doubleSetting("rate.limit.per.second", 0);
+        RATE_LIMIT_BURST = intSetting("rate.limit.burst", 1);
+        RATE_LIMIT_MIN_PER_SECOND = doubleSetting("rate.limit.min.per.second", 1);
+        RETRY_MAX_ATTEMPTS = intSetting("retry.max.attempts", 3);
+        RETRY_BASE_DELAY_MS = longSetting("retry.base.delay.ms", 200);
+        RETRY_MAX_DELAY_MS = longSetting("retry.max.delay.ms", 5000);
+        LOAD_CONCURRENCY = intSetting("load.concurrency", 50);
+        LOAD_RATE = doubleSetting("load.rate", 0);
+        LOAD_DURATION = Duration.ofSeconds(longSetting("load.duration", 30));
+        SOAK_DURATION = Duration.ofSeconds(longSetting("soak.duration", 3600));
+        SOAK_SAMPLE_INTERVAL = Duration.ofSeconds(Math.max(1, longSetting("soak.sample.interval", 30)));
+        SOAK_WARMUP = Duration.ofSeconds(longSetting("soak.warmup", 120));
+        SOAK_HEAP_GROWTH_MAX_MB = longSetting("soak.heap.growth.max.mb", 64);
+        
+        LOCAL_SERVER_ENABLED = Boolean.parseBoolean(properties.getProperty("local.server.enabled", "false"));
+        HTTP_MODE = determineHttpMode();
+        RECORDINGS_DIR = setting("http.recordings.dir", "recordings/" + determineEnvironment());
         
-        // Set base URL based on environment
-        BASE_URL = properties.getProperty("base.url", determineEnvironment().equals("prod") ? PROD_BASE_URL : TEST_BASE_URL);
+        ALLURE_CAPTURE_MODE = CaptureMode.valueOf(setting("allure.capture.mode", "full").trim().toUpperCase(Locale.ROOT));
+        ALLURE_CAPTURE_SAMPLE_EVERY = Math.max(1, intSetting("allure.capture.sample.every", 10));
+        ALLURE_CAPTURE_MAX_BODY_BYTES = intSetting("allure.capture.max.body.bytes", 8192);
+        ALLURE_CAPTURE_ASYNC = Boolean.parseBoolean(setting("allure.capture.async", "true"));
+        
+        // Set base URL based on environment, starting the local server when it is enabled
+        if (LOCAL_SERVER_ENABLED) {
+            BASE_URL = LocalReqResServer.startShared(
+                    Integer.parseInt(properties.getProperty("local.server.port", "0")),
+                    API_KEY).getBaseUrl();
+        } else {
+            BASE_URL = properties.getProperty("base.url", determineEnvironment().equals("prod") ? PROD_BASE_URL : TEST_BASE_URL);
+        }
     }
     
     /**
@@ -57,6 +282,9 @@ public final class TestConfig {
      * Tries to load environment-specific file first, falls back to default.
      */
     private static void loadProperties() {
+        // Allure settings, including attachment capture, are defaults that environment files may override
+        loadPropertiesFile("allure.properties");
+        
         // Determine environment
         String env = determineEnvironment();
         
@@ -95,21 +323,18 @@ public final class TestConfig {
     /**
      * Determines which environment to use.
      * Checks for environment in this order:
-     * 1. System property "api.environment"
-     * 2. Environment variable "API_ENVIRONMENT"
-     * 3. Default to "test" if neither is set
+     * 1. System property "env" (set from -P env by the Gradle test and loadTest tasks)
+     * 2. Environment variable "REQRES_ENV", named like those of the other settings
+     * 3. Default to "prod" if neither is set
      *
-     * @return The environment name (prod, test, etc.)
+     * @return The environment name (prod, test, local, etc.)
      */
     private static String determineEnvironment() {
-        // First check system property (can be set via Gradle)
         String env = System.getProperty("env");
-        //TODO: need to check why env is not being set via the command line
         
         // If not found, check environment variable
         if (env == null) {
-            env = System.getenv("env");
-            //TODO: need to check why env is not being set via the command line
+            env = environmentVariable("env");
         }
         
         // Default to prod if not specified
@@ -120,6 +345,81 @@ public final class TestConfig {
         return env;
     }
     
+    /**
+     * Determines whether requests are sent live, recorded or replayed.
+     * Read like any other setting from "http.mode" (environment variable REQRES_HTTP_MODE), defaulting to live.
+     *
+     * @return The HTTP mode
+     */
+    private static HttpMode determineHttpMode() {
+        String mode = setting("http.mode", "live");
+        try {
+            return HttpMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown http.mode '" + mode + "', expected live, record or replay", e);
+        }
+    }
+    
+    /**
+     * Gets a setting, looking in this order:
+     * 1. System property, e.g. "http.pool.max.total" (Gradle forwards -P properties of the same name)
+     * 2. Environment variable, upper-cased with dots as underscores and prefixed with "REQRES_",
+     *    e.g. "REQRES_HTTP_POOL_MAX_TOTAL"; the prefix keeps CI variables such as HTTP_MODE from being picked up
+     * 3. The environment properties file
+     * 4. The default value
+     *
+     * @param key The setting key
+     * @param defaultValue Default value if the setting is not found
+     * @return The setting value
+     */
+    private static String setting(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = environmentVariable(key);
+        }
+        if (value == null) {
+            value = properties.getProperty(key, defaultValue);
+        }
+        return value.trim();
+    }
+    
+    /**
+     * Gets the environment variable that overrides a setting, e.g. REQRES_HTTP_MODE for "http.mode"
+     *
+     * @param key The setting key
+     * @return The variable's value, or null if it is not set
+     */
+    private static String environmentVariable(String key) {
+        return System.getenv(ENVIRONMENT_VARIABLE_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_'));
+    }
+    
+    private static int intSetting(String key, int defaultValue) {
+        String value = setting(key, String.valueOf(defaultValue));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + key + " must be an integer, got '" + value + "'", e);
+        }
+    }
+    
+    private static long longSetting(String key, long defaultValue) {
+        String value = setting(key, String.valueOf(defaultValue));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + key + " must be an integer, got '" + value + "'", e);
+        }
+    }
+    
+    private static double doubleSetting(String key, double defaultValue) {
+        String value = setting(key, String.valueOf(defaultValue));
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + key + " must be a number, got '" + value + "'", e);
+        }
+    }
+    
     /**
      * Gets a custom property from the properties file.
      * Useful for accessing additional configuration values.
@@ -0,0 +1,59 @@
+package com.reqres.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one HTTP request, emitted on the thread that sent it so CPU samples, allocations and
+ * GC pauses of a recording can be tied to the call. When no recording is running, begin and commit do
+ * nothing and the JIT removes the event object, so the cost is negligible.
+ */
+@Name("com.reqres.ApiRequest")
+@Label("API Request")
+@Category({"ReqRes", "HTTP"})
+@Description("HTTP request sent through the Rest Assured specification")
+@StackTrace(false)
+public final class ApiRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Path template, e.g. /users/{id}")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    /**
+     * End the event and commit it if a recording wants it
+     * @param method HTTP method
+     * @param endpoint Path template
+     * @param status Status code of the response
+     * @param requestBytes Size of the request body
+     * @param responseBytes Size of the response body
+     */
+    public void complete(String method, String endpoint, int status, long requestBytes, long responseBytes) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            commit();
+        }
+    }
+}
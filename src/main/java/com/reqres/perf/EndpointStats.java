@@ -0,0 +1,124 @@
+package com.reqres.perf;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for a single endpoint, safe for concurrent updates
+ */
+public final class EndpointStats {
+    
+    private final String endpoint;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder clientWaitNanos = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor for EndpointStats
+     * @param endpoint Endpoint label, e.g. "GET /users/{id}"
+     */
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    /**
+     * Record a successful request
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public void recordSuccess(long nanos) {
+        latency.recordNanos(nanos);
+    }
+    
+    /**
+     * Record a completed request of any status, with its payload sizes
+     * @param nanos Elapsed time in nanoseconds
+     * @param status HTTP status code
+     * @param requestBodyBytes Size of the request body
+     * @param responseBodyBytes Size of the response body
+     */
+    public void record(long nanos, int status, long requestBodyBytes, long responseBodyBytes) {
+        latency.recordNanos(nanos);
+        statusCounts.computeIfAbsent(status, code -> new LongAdder()).increment();
+        requestBytes.add(requestBodyBytes);
+        responseBytes.add(responseBodyBytes);
+    }
+    
+    /**
+     * Record time a request was held by the client before or between sends, for the rate limiter or a retry
+     * backoff; it is not part of the request's latency
+     * @param nanos Waiting time in nanoseconds
+     */
+    public void recordClientWait(long nanos) {
+        clientWaitNanos.add(nanos);
+    }
+    
+    /**
+     * Record a failed request (unexpected status or exception)
+     */
+    public void recordError() {
+        errors.increment();
+    }
+    
+    /**
+     * Get the endpoint label
+     * @return Endpoint label
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    /**
+     * Get the latency histogram of successful requests
+     * @return Latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+    
+    /**
+     * Get the number of failed requests
+     * @return Error count
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+    
+    /**
+     * Get the total size of all recorded request bodies
+     * @return Request body bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+    
+    /**
+     * Get the total size of all recorded response bodies
+     * @return Response body bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+    
+    /**
+     * Get the total time requests were held by the client for the rate limiter and retry backoff
+     * @return Waiting time in nanoseconds
+     */
+    public long getClientWaitNanos() {
+        return clientWaitNanos.sum();
+    }
+    
+    /**
+     * Get the number of recorded requests per HTTP status code
+     * @return Counts keyed by status code, in ascending order
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,241 @@
+package com.reqres.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Compares a run's latency summary against a baseline file kept in the repository.
+ * Run by the checkLatencyBaseline Gradle task after the tests; a percentile that is slower than its baseline
+ * by more than the tolerance fails the build (or only warns in warn mode), and so does a missing baseline or a run
+ * that has no endpoint to compare. In update mode the current run is added to the baseline, which keeps the
+ * percentiles of its last runs per endpoint and compares against their median, so one slow or fast run cannot move
+ * the gate by itself.
+ *
+ * <p>Settings (system properties): {@code latency.baseline.mode} check, warn or update;
+ * {@code latency.baseline.tolerance} allowed slowdown in percent; {@code latency.baseline.slack.ms}
+ * minimum allowed slowdown in milliseconds; {@code latency.baseline.min.requests} requests an endpoint needs in a
+ * run to be recorded or compared; {@code latency.baseline.runs} runs kept per endpoint.
+ * A baseline file can set its own tolerance_percent, slack_ms, min_requests and runs; system properties override them.
+ */
+public final class LatencyBaselineCheck {
+    
+    private static final String[] BASELINE_PERCENTILES = {"p50_ms", "p95_ms", "p99_ms"};
+    private static final String[] BASELINE_SETTINGS = {"tolerance_percent", "slack_ms", "min_requests", "runs"};
+    private static final String DEFAULT_MIN_REQUESTS = "20";
+    private static final String DEFAULT_RUNS = "5";
+    
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private LatencyBaselineCheck() {
+        throw new AssertionError("LatencyBaselineCheck is a utility class and should not be instantiated");
+    }
+    
+    /**
+     * Check or update the baseline
+     * @param args Path of the run's latency-summary.json and path of the baseline file
+     * @throws IOException If a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LatencyBaselineCheck <latency summary> <baseline>");
+        }
+        Path summaryFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        String mode = System.getProperty("latency.baseline.mode", "check");
+        
+        if (!Files.exists(summaryFile)) {
+            System.out.println("No latency summary at " + summaryFile + ", skipping baseline check");
+            return;
+        }
+        JSONObject summary = new JSONObject(Files.readString(summaryFile, StandardCharsets.UTF_8));
+        
+        JSONObject baseline = Files.exists(baselineFile)
+                ? new JSONObject(Files.readString(baselineFile, StandardCharsets.UTF_8))
+                : new JSONObject().put("endpoints", new JSONObject());
+        long minRequests = Long.parseLong(setting("latency.baseline.min.requests", baseline, "min_requests", DEFAULT_MIN_REQUESTS));
+        
+        if (mode.equals("update")) {
+            int runs = Integer.parseInt(setting("latency.baseline.runs", baseline, "runs", DEFAULT_RUNS));
+            int recorded = addRun(summary, baseline, minRequests, runs);
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            Files.writeString(baselineFile, baseline.toString(2) + "\n", StandardCharsets.UTF_8);
+            System.out.println("Latency baseline updated with " + recorded + " endpoints: " + baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            fail(mode, "no latency baseline at " + baselineFile + ". Record one from several runs with"
+                    + " -P latency.baseline.mode=update (make baseline) and commit it");
+            return;
+        }
+        
+        List<String> regressions = compare(summary, baseline,
+                Double.parseDouble(setting("latency.baseline.tolerance", baseline, "tolerance_percent", "25")),
+                Double.parseDouble(setting("latency.baseline.slack.ms", baseline, "slack_ms", "10")),
+                minRequests);
+        
+        if (compared(summary, baseline, minRequests) == 0) {
+            fail(mode, "no endpoint of the run is in " + baselineFile + " with at least " + minRequests
+                    + " requests, latency regressions are not checked");
+            return;
+        }
+        if (regressions.isEmpty()) {
+            System.out.println("Latency is within baseline " + baselineFile);
+            return;
+        }
+        System.err.println("Latency regressions against " + baselineFile + ":");
+        regressions.forEach(regression -> System.err.println("  " + regression));
+        if (!mode.equals("warn")) {
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Find percentiles that are slower than the baseline allows
+     * @param summary The run's latency summary
+     * @param baseline The baseline
+     * @param tolerancePercent Allowed slowdown relative to the baseline
+     * @param slackMillis Allowed slowdown in milliseconds, for very fast endpoints
+     * @param minRequests Minimum samples for an endpoint to be compared
+     * @return One description per regression
+     */
+    static List<String> compare(JSONObject summary, JSONObject baseline, double tolerancePercent,
+                                double slackMillis, long minRequests) {
+        JSONObject baselineEndpoints = baseline.getJSONObject("endpoints");
+        List<String> regressions = new ArrayList<>();
+        JSONArray rows = summary.getJSONArray("endpoints");
+        for (int i = 0; i < rows.length(); i++) {
+            JSONObject row = rows.getJSONObject(i);
+            String endpoint = row.getString("endpoint");
+            if (!baselineEndpoints.has(endpoint) || row.getLong("requests") < minRequests) {
+                continue;
+            }
+            JSONObject expected = baselineEndpoints.getJSONObject(endpoint);
+            for (String key : BASELINE_PERCENTILES) {
+                if (!expected.has(key) || !row.has(key)) {
+                    continue;
+                }
+                double base = expected.getDouble(key);
+                double actual = row.getDouble(key);
+                double limit = Math.max(base * (1 + tolerancePercent / 100), base + slackMillis);
+                if (actual > limit) {
+                    regressions.add(String.format("%s %s: %.1f ms, baseline %.1f ms, limit %.1f ms",
+                            endpoint, key.replace("_ms", ""), actual, base, limit));
+                }
+            }
+        }
+        return regressions;
+    }
+    
+    /**
+     * Count the endpoints of the run that the baseline covers with enough requests to compare
+     */
+    static int compared(JSONObject summary, JSONObject baseline, long minRequests) {
+        JSONObject baselineEndpoints = baseline.getJSONObject("endpoints");
+        JSONArray rows = summary.getJSONArray("endpoints");
+        int count = 0;
+        for (int i = 0; i < rows.length(); i++) {
+            JSONObject row = rows.getJSONObject(i);
+            if (baselineEndpoints.has(row.getString("endpoint")) && row.getLong("requests") >= minRequests) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Add a run's percentiles to the baseline, keeping the last runs per endpoint, and set each endpoint's
+     * percentiles to the median over its kept runs.
+     * Endpoints with fewer than minRequests requests in the run are left out, so they can neither set the gate
+     * nor be compared against it.
+     * @param summary The run's latency summary
+     * @param baseline The baseline to update
+     * @param minRequests Minimum requests for an endpoint of the run to be recorded
+     * @param maxRuns Number of runs kept per endpoint
+     * @return Number of endpoints recorded from the run
+     */
+    static int addRun(JSONObject summary, JSONObject baseline, long minRequests, int maxRuns) {
+        JSONObject endpoints = baseline.getJSONObject("endpoints");
+        JSONArray rows = summary.getJSONArray("endpoints");
+        int recorded = 0;
+        for (int i = 0; i < rows.length(); i++) {
+            JSONObject row = rows.getJSONObject(i);
+            if (row.getLong("requests") < minRequests) {
+                continue;
+            }
+            JSONObject run = new JSONObject();
+            run.put("requests", row.getLong("requests"));
+            for (String key : BASELINE_PERCENTILES) {
+                run.put(key, row.getDouble(key));
+            }
+            JSONObject expected = endpoints.optJSONObject(row.getString("endpoint"));
+            JSONArray previousRuns = expected == null || !expected.has("runs") ? new JSONArray() : expected.getJSONArray("runs");
+            JSONArray runs = new JSONArray();
+            for (int r = Math.max(0, previousRuns.length() - maxRuns + 1); r < previousRuns.length(); r++) {
+                runs.put(previousRuns.getJSONObject(r));
+            }
+            runs.put(run);
+            endpoints.put(row.getString("endpoint"), aggregate(runs));
+            recorded++;
+        }
+        return recorded;
+    }
+    
+    /**
+     * Summarise the kept runs of an endpoint: median percentiles and total requests
+     */
+    private static JSONObject aggregate(JSONArray runs) {
+        JSONObject expected = new JSONObject();
+        long requests = 0;
+        for (int r = 0; r < runs.length(); r++) {
+            requests += runs.getJSONObject(r).getLong("requests");
+        }
+        expected.put("requests", requests);
+        for (String key : BASELINE_PERCENTILES) {
+            double[] values = new double[runs.length()];
+            for (int r = 0; r < runs.length(); r++) {
+                values[r] = runs.getJSONObject(r).getDouble(key);
+            }
+            expected.put(key, median(values));
+        }
+        expected.put("runs", runs);
+        return expected;
+    }
+    
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+    
+    /**
+     * Report a problem that leaves latency unchecked: an error in check mode, a warning in warn mode
+     */
+    private static void fail(String mode, String message) {
+        if (mode.equals("warn")) {
+            System.err.println("WARNING: " + message);
+            return;
+        }
+        System.err.println("ERROR: " + message);
+        System.exit(1);
+    }
+    
+    /**
+     * Read a setting from a system property, else from the baseline file, else the default
+     */
+    private static String setting(String property, JSONObject baseline, String baselineKey, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value != null) {
+            return value;
+        }
+        return baseline.has(baselineKey) ? baseline.get(baselineKey).toString() : defaultValue;
+    }
+}
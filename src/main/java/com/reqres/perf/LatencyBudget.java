@@ -0,0 +1,64 @@
+package com.reqres.perf;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a latency budget for an endpoint called by a test method, e.g.
+ * {@code @LatencyBudget(endpoint = "GET /users/{id}", percentile = 95, maxMillis = 300)}.
+ * After the test, {@link LatencyBudgetListener} compares the percentile of the requests the test method itself sent
+ * to the endpoint against the budget and fails the test, or only warns, when it is exceeded.
+ * A percentile needs enough requests to mean anything, so budgets belong on tests that sample an endpoint repeatedly.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(LatencyBudget.List.class)
+public @interface LatencyBudget {
+    
+    /**
+     * Endpoint as recorded by the latency filter: method and path template
+     * @return Endpoint label, e.g. "GET /users/{id}"
+     */
+    String endpoint();
+    
+    /**
+     * Percentile the budget applies to
+     * @return Percentile between 0 and 100
+     */
+    double percentile() default 95;
+    
+    /**
+     * Maximum allowed latency at the percentile
+     * @return Budget in milliseconds
+     */
+    long maxMillis();
+    
+    /**
+     * What to do when the budget is exceeded
+     * @return FAIL to fail the test, WARN to only report it
+     */
+    Mode mode() default Mode.FAIL;
+    
+    /**
+     * Action taken when a budget is exceeded
+     */
+    enum Mode {
+        FAIL,
+        WARN
+    }
+    
+    /**
+     * Container for several budgets on one method
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface List {
+        LatencyBudget[] value();
+    }
+}
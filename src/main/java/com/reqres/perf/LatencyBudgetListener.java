@@ -0,0 +1,78 @@
+package com.reqres.perf;
+
+import java.lang.reflect.Method;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener that enforces {@link LatencyBudget} annotations.
+ * While an annotated test method runs, its requests are also recorded into metrics of their own, including requests
+ * sent from threads the method starts. Afterwards the percentile of each budgeted endpoint over those requests is
+ * checked, so requests of tests running at the same time do not count; a FAIL budget that is exceeded turns a
+ * passing test into a failure.
+ */
+public class LatencyBudgetListener implements IInvokedMethodListener {
+    
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (budgets(method).length > 0) {
+            RequestMetrics.beginInvocation();
+        }
+    }
+    
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        LatencyBudget[] budgets = budgets(method);
+        if (budgets.length == 0) {
+            return;
+        }
+        RequestMetrics invocation = RequestMetrics.endInvocation();
+        if (invocation == null) {
+            return;
+        }
+        String testName = method.getTestMethod().getMethodName();
+        for (LatencyBudget budget : budgets) {
+            String violation = check(budget, invocation);
+            if (violation == null) {
+                continue;
+            }
+            if (budget.mode() == LatencyBudget.Mode.WARN) {
+                System.err.println("Latency budget warning in " + testName + ": " + violation);
+            } else if (testResult.getStatus() == ITestResult.SUCCESS) {
+                testResult.setStatus(ITestResult.FAILURE);
+                testResult.setThrowable(new AssertionError("Latency budget exceeded: " + violation));
+            }
+        }
+    }
+    
+    /**
+     * Check a budget against the requests of one test invocation
+     * @param budget The budget
+     * @param metrics Metrics of the invocation's requests
+     * @return Description of the violation, or null if the budget is met or the endpoint was not called
+     */
+    static String check(LatencyBudget budget, RequestMetrics metrics) {
+        EndpointStats stats = metrics.find(budget.endpoint());
+        if (stats == null || stats.getLatency().getCount() == 0) {
+            return null;
+        }
+        LatencyHistogram latency = stats.getLatency();
+        double actualMillis = latency.getValueAtPercentile(budget.percentile()) / 1_000.0;
+        if (actualMillis <= budget.maxMillis()) {
+            return null;
+        }
+        return String.format("p%s of %s is %.1f ms over %d requests, budget %d ms",
+                RequestMetrics.formatPercentile(budget.percentile()), budget.endpoint(), actualMillis,
+                latency.getCount(), budget.maxMillis());
+    }
+    
+    private static LatencyBudget[] budgets(IInvokedMethod method) {
+        if (!method.isTestMethod()) {
+            return new LatencyBudget[0];
+        }
+        Method testMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        return testMethod == null ? new LatencyBudget[0] : testMethod.getAnnotationsByType(LatencyBudget.class);
+    }
+}
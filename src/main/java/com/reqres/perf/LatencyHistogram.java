@@ -0,0 +1,131 @@
+package com.reqres.perf;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free latency histogram with log-linear buckets.
+ * Values are recorded in microseconds with roughly 1.5% precision from 1 µs up to several days,
+ * so recording costs one index computation and one atomic increment.
+ */
+public final class LatencyHistogram {
+
+    // Values below LINEAR_LIMIT get one bucket each; above it every power of two is split into SUB_BUCKETS
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int FIRST_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency measured with {@link System#nanoTime()}
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * Record a latency
+     * @param micros Elapsed time in microseconds
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        if (value > maxMicros.get()) {
+            maxMicros.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Get the number of recorded values
+     * @return Recorded value count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Get the largest recorded value
+     * @return Maximum in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Get the arithmetic mean of the recorded values
+     * @return Mean in microseconds, or 0 if nothing was recorded
+     */
+    public double getMeanMicros() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalMicros.sum() / count;
+    }
+
+    /**
+     * Get the value at a percentile, reported as the upper bound of its bucket
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Value in microseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Add all values recorded in another histogram to this one
+     * @param other Histogram to merge in
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount != 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        totalCount.add(other.totalCount.sum());
+        totalMicros.add(other.totalMicros.sum());
+        maxMicros.accumulateAndGet(other.getMaxMicros(), Math::max);
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = FIRST_EXPONENT + (index - LINEAR_LIMIT) / SUB_BUCKETS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reqres.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.IExecutionListener;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+
+/**
+ * TestNG listener that publishes the per-endpoint latency summary when the run finishes.
+ * The summary is written as JSON and CSV to {@code latency.report.dir} and attached to the Allure report
+ * as a table on a dedicated "API latency summary" result.
+ */
+public class LatencyReportListener implements IExecutionListener {
+    
+    @Override
+    public void onExecutionFinish() {
+        RequestMetrics metrics = RequestMetrics.global();
+        if (metrics.getEndpoints().isEmpty()) {
+            return;
+        }
+        
+        Path reportDir = Path.of(System.getProperty("latency.report.dir", "build/reports/latency"));
+        try {
+            metrics.writeSummary(reportDir);
+            System.out.println("Latency summary written to " + reportDir.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error writing latency summary: " + e.getMessage());
+        }
+        attachToAllure(metrics.toCsv());
+    }
+    
+    private static void attachToAllure(String csv) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        TestResult result = new TestResult()
+                .setUuid(uuid)
+                .setHistoryId("api-latency-summary")
+                .setName("API latency summary")
+                .setFullName(LatencyReportListener.class.getName() + ".apiLatencySummary")
+                .setStatus(Status.PASSED)
+                .setStart(now)
+                .setLabels(List.of(
+                        ResultsUtils.createSuiteLabel("Performance"),
+                        ResultsUtils.createFeatureLabel("API Latency")));
+        lifecycle.scheduleTestCase(result);
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("Latency per endpoint", "text/csv", "csv", csv.getBytes(StandardCharsets.UTF_8));
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -0,0 +1,195 @@
+package com.reqres.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Per-endpoint request statistics for the whole run, or for a single test method invocation.
+ * Endpoints are keyed by method and path template (e.g. "GET /users/{id}") so requests for different IDs aggregate together.
+ */
+public final class RequestMetrics {
+    
+    private static final RequestMetrics GLOBAL = new RequestMetrics();
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+    
+    // Metrics of the test invocation running on a thread, inherited by the threads it starts
+    private static final InheritableThreadLocal<RequestMetrics> INVOCATION = new InheritableThreadLocal<>();
+    
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    
+    // Cleared when an invocation ends, so threads that inherited its metrics stop recording into them
+    private volatile boolean open = true;
+    
+    /**
+     * Get the JVM-wide metrics that the latency filter records into
+     * @return Global metrics
+     */
+    public static RequestMetrics global() {
+        return GLOBAL;
+    }
+    
+    /**
+     * Start collecting the requests of a test method invocation, in addition to the run-wide metrics.
+     * Requests sent from the current thread, and from threads it starts until {@link #endInvocation()}, are recorded.
+     * @return Empty metrics for the invocation
+     */
+    public static RequestMetrics beginInvocation() {
+        RequestMetrics metrics = new RequestMetrics();
+        INVOCATION.set(metrics);
+        return metrics;
+    }
+    
+    /**
+     * Stop collecting the requests of the invocation started on the current thread
+     * @return The invocation's metrics, or null if none was started
+     */
+    public static RequestMetrics endInvocation() {
+        RequestMetrics metrics = INVOCATION.get();
+        INVOCATION.remove();
+        if (metrics != null) {
+            metrics.open = false;
+        }
+        return metrics;
+    }
+    
+    /**
+     * Get the metrics of the test invocation the current thread sends requests for
+     * @return The invocation's metrics, or null outside of an invocation
+     */
+    public static RequestMetrics invocation() {
+        RequestMetrics metrics = INVOCATION.get();
+        return metrics != null && metrics.open ? metrics : null;
+    }
+    
+    /**
+     * Get the statistics for an endpoint, creating them on first use
+     * @param method HTTP method
+     * @param pathTemplate Path with unresolved parameters, e.g. "/users/{id}"
+     * @return Statistics for the endpoint
+     */
+    public EndpointStats endpoint(String method, String pathTemplate) {
+        String key = method + " " + pathTemplate;
+        EndpointStats stats = endpoints.get(key);
+        return stats != null ? stats : endpoints.computeIfAbsent(key, EndpointStats::new);
+    }
+    
+    /**
+     * Get the statistics for an endpoint if any request to it was recorded
+     * @param endpoint Endpoint label, e.g. "GET /users/{id}"
+     * @return Statistics for the endpoint, or null if it was never called
+     */
+    public EndpointStats find(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+    
+    /**
+     * Get the statistics of every endpoint seen so far
+     * @return Endpoint statistics sorted by endpoint label
+     */
+    public List<EndpointStats> getEndpoints() {
+        List<EndpointStats> snapshot = new ArrayList<>(endpoints.values());
+        snapshot.sort(Comparator.comparing(EndpointStats::getEndpoint));
+        return snapshot;
+    }
+    
+    /**
+     * Discard all statistics
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+    
+    /**
+     * Format the per-endpoint percentile table as CSV
+     * @return CSV with a header row and one row per endpoint
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("endpoint,requests");
+        for (double percentile : PERCENTILES) {
+            csv.append(",p").append(percentileKey(percentile)).append("_ms");
+        }
+        csv.append(",max_ms,mean_ms,client_wait_ms,request_bytes,response_bytes,statuses\n");
+        for (EndpointStats stats : getEndpoints()) {
+            LatencyHistogram latency = stats.getLatency();
+            csv.append('"').append(stats.getEndpoint()).append('"').append(',').append(latency.getCount());
+            for (double percentile : PERCENTILES) {
+                csv.append(',').append(millis(latency.getValueAtPercentile(percentile)));
+            }
+            csv.append(',').append(millis(latency.getMaxMicros()))
+                    .append(',').append(millis((long) latency.getMeanMicros()))
+                    .append(',').append(millis(stats.getClientWaitNanos() / 1_000))
+                    .append(',').append(stats.getRequestBytes())
+                    .append(',').append(stats.getResponseBytes())
+                    .append(",\"").append(stats.getStatusCounts()).append("\"\n");
+        }
+        return csv.toString();
+    }
+    
+    /**
+     * Format the per-endpoint statistics as JSON
+     * @return JSON object with one entry per endpoint
+     */
+    public JSONObject toJson() {
+        JSONArray rows = new JSONArray();
+        for (EndpointStats stats : getEndpoints()) {
+            LatencyHistogram latency = stats.getLatency();
+            JSONObject row = new JSONObject();
+            row.put("endpoint", stats.getEndpoint());
+            row.put("requests", latency.getCount());
+            for (double percentile : PERCENTILES) {
+                row.put("p" + percentileKey(percentile) + "_ms", millis(latency.getValueAtPercentile(percentile)));
+            }
+            row.put("max_ms", millis(latency.getMaxMicros()));
+            row.put("mean_ms", millis((long) latency.getMeanMicros()));
+            // Total time spent waiting for the rate limiter and retry backoff, kept out of the percentiles
+            row.put("client_wait_ms", millis(stats.getClientWaitNanos() / 1_000));
+            row.put("request_bytes", stats.getRequestBytes());
+            row.put("response_bytes", stats.getResponseBytes());
+            JSONObject statuses = new JSONObject();
+            stats.getStatusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+            row.put("statuses", statuses);
+            rows.put(row);
+        }
+        JSONObject summary = new JSONObject();
+        summary.put("endpoints", rows);
+        return summary;
+    }
+    
+    /**
+     * Write the JSON and CSV summaries
+     * @param directory Target directory, created if needed
+     * @throws IOException If a file cannot be written
+     */
+    public void writeSummary(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("latency-summary.json"), toJson().toString(2), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("latency-summary.csv"), toCsv(), StandardCharsets.UTF_8);
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+    
+    /**
+     * Format a percentile for labels, e.g. 95 as "95" and 99.9 as "99.9"
+     * @param percentile Percentile between 0 and 100
+     * @return Formatted percentile
+     */
+    static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+    
+    private static String percentileKey(double percentile) {
+        return formatPercentile(percentile).replace('.', '_');
+    }
+}
@@ -0,0 +1,55 @@
+package com.reqres.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for loading the test data file or one of its sections, telling cache hits from misses
+ * and, for a miss, where the data came from. Like {@link ApiRequestEvent} it costs next to nothing
+ * when no recording is running.
+ */
+@Name("com.reqres.TestDataLoad")
+@Label("Test Data Load")
+@Category({"ReqRes", "Test Data"})
+@Description("Call to TestDataLoader.loadTestData() or getSection()")
+@StackTrace(false)
+public final class TestDataLoadEvent extends jdk.jfr.Event {
+
+    /**
+     * Source of a cache hit
+     */
+    public static final String CACHE = "cache";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Section")
+    String section;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Label("Source")
+    @Description("cache, file, index, stream or document")
+    String source;
+
+    /**
+     * End the event and commit it if a recording wants it
+     * @param operation Called method, e.g. "getSection"
+     * @param section Section name, or null for the whole file
+     * @param source Where the data came from; {@link #CACHE} for a cache hit
+     */
+    public void complete(String operation, String section, String source) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.section = section;
+            this.source = source;
+            this.cacheHit = CACHE.equals(source);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reqres.perf.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.reqres.perf.EndpointStats;
+import com.reqres.perf.LatencyHistogram;
+
+/**
+ * Throughput and latency percentiles of a finished load run, per endpoint
+ */
+public final class LoadReport {
+    
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    
+    private final List<EndpointStats> endpoints;
+    private final Duration elapsed;
+    
+    /**
+     * Constructor for LoadReport
+     * @param endpoints Statistics for each endpoint, in report order
+     * @param elapsed Wall-clock duration of the run
+     */
+    public LoadReport(List<EndpointStats> endpoints, Duration elapsed) {
+        this.endpoints = List.copyOf(endpoints);
+        this.elapsed = elapsed;
+    }
+    
+    /**
+     * Print the report as a table
+     * @param out Stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("%-26s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Max ms");
+        LatencyHistogram total = new LatencyHistogram();
+        long totalErrors = 0;
+        for (EndpointStats stats : endpoints) {
+            printRow(out, stats.getEndpoint(), stats.getLatency(), stats.getErrors());
+            total.add(stats.getLatency());
+            totalErrors += stats.getErrors();
+        }
+        printRow(out, "TOTAL", total, totalErrors);
+        out.printf("Duration: %.1f s%n", seconds());
+    }
+    
+    /**
+     * Write the report as JSON
+     * @param file Target file; parent directories are created as needed
+     * @throws IOException If the file cannot be written
+     */
+    public void writeJson(Path file) throws IOException {
+        JSONArray rows = new JSONArray();
+        for (EndpointStats stats : endpoints) {
+            LatencyHistogram latency = stats.getLatency();
+            JSONObject row = new JSONObject();
+            row.put("endpoint", stats.getEndpoint());
+            row.put("requests", latency.getCount());
+            row.put("errors", stats.getErrors());
+            row.put("throughput_rps", latency.getCount() / seconds());
+            row.put("mean_ms", latency.getMeanMicros() / 1_000.0);
+            for (double percentile : PERCENTILES) {
+                row.put("p" + formatPercentile(percentile) + "_ms", latency.getValueAtPercentile(percentile) / 1_000.0);
+            }
+            row.put("max_ms", latency.getMaxMicros() / 1_000.0);
+            rows.put(row);
+        }
+        JSONObject report = new JSONObject();
+        report.put("duration_s", seconds());
+        report.put("endpoints", rows);
+        
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, report.toString(2), StandardCharsets.UTF_8);
+    }
+    
+    private void printRow(PrintStream out, String label, LatencyHistogram latency, long errors) {
+        out.printf("%-26s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, latency.getCount(), errors, latency.getCount() / seconds(),
+                latency.getValueAtPercentile(50) / 1_000.0,
+                latency.getValueAtPercentile(90) / 1_000.0,
+                latency.getValueAtPercentile(99) / 1_000.0,
+                latency.getValueAtPercentile(99.9) / 1_000.0,
+                latency.getMaxMicros() / 1_000.0);
+    }
+    
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+    }
+    
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile).replace('.', '_');
+    }
+}
@@ -0,0 +1,143 @@
+package com.reqres.perf.load;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+import com.reqres.config.TestConfig;
+import com.reqres.perf.EndpointStats;
+import com.reqres.util.api.RestUtil;
+import com.reqres.util.data.TestDataManager;
+
+import io.restassured.response.Response;
+
+/**
+ * Replays the UserApiTests scenarios as load, one virtual thread per virtual user.
+ * Without a target rate each virtual user runs the scenarios back to back (closed loop);
+ * with a target rate requests are paced on a fixed schedule and latency is measured from the
+ * scheduled start, so a slow server is not hidden by the client waiting for it.
+ *
+ * <p>Settings (TestConfig, per environment): {@code load.duration} seconds, {@code load.concurrency} virtual users,
+ * {@code load.rate} total requests per second (0 = unthrottled); system property {@code load.report.dir}
+ * output directory.
+ */
+public final class LoadRunner {
+    
+    private final int concurrency;
+    private final double targetRate;
+    private final Duration duration;
+    private final Map<UserScenario, EndpointStats> stats = new EnumMap<>(UserScenario.class);
+    
+    /**
+     * Constructor for LoadRunner
+     * @param concurrency Number of virtual users
+     * @param targetRate Total requests per second across all virtual users, or 0 for unthrottled
+     * @param duration How long to generate load
+     */
+    public LoadRunner(int concurrency, double targetRate, Duration duration) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, got " + concurrency);
+        }
+        this.concurrency = concurrency;
+        this.targetRate = targetRate;
+        this.duration = duration;
+        for (UserScenario scenario : UserScenario.values()) {
+            stats.put(scenario, new EndpointStats(scenario.getEndpoint()));
+        }
+    }
+    
+    /**
+     * Run the load and wait for every virtual user to finish
+     * @return Report of the run
+     */
+    public LoadReport run() {
+        RestUtil.setupRestAssured();
+        long intervalNanos = targetRate > 0 ? (long) (1_000_000_000L * concurrency / targetRate) : 0;
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + duration.toNanos();
+        
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                // Stagger paced users evenly across one interval so requests don't arrive in bursts
+                long firstStart = startNanos + (intervalNanos * i) / concurrency;
+                virtualUsers.submit(() -> runVirtualUser(firstStart, intervalNanos, deadlineNanos));
+            }
+        }
+        
+        return new LoadReport(new ArrayList<>(stats.values()), Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+    
+    private void runVirtualUser(long firstStart, long intervalNanos, long deadlineNanos) {
+        TestDataManager state = new TestDataManager();
+        long scheduledStart = firstStart;
+        while (System.nanoTime() < deadlineNanos) {
+            for (UserScenario scenario : UserScenario.values()) {
+                if (scenario.requiresUserId() && state.retrieveData(TestDataManager.KEY_USER_ID) == null) {
+                    continue;
+                }
+                long start;
+                if (intervalNanos > 0) {
+                    long wait = scheduledStart - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    start = scheduledStart;
+                    scheduledStart += intervalNanos;
+                } else {
+                    start = System.nanoTime();
+                }
+                if (start >= deadlineNanos) {
+                    return;
+                }
+                execute(scenario, state, start);
+            }
+            // Like @AfterClass in the tests, so a long run holds no more data than one pass
+            state.clearData();
+        }
+    }
+    
+    private void execute(UserScenario scenario, TestDataManager state, long start) {
+        EndpointStats endpointStats = stats.get(scenario);
+        try {
+            Response response = scenario.send(state);
+            long elapsed = System.nanoTime() - start;
+            if (response.statusCode() == scenario.getExpectedStatus()) {
+                scenario.onSuccess(response, state);
+                endpointStats.recordSuccess(elapsed);
+            } else {
+                endpointStats.recordError();
+            }
+        } catch (RuntimeException e) {
+            endpointStats.recordError();
+        }
+    }
+    
+    /**
+     * Entry point for the loadTest Gradle task
+     * @param args Unused; settings are read from TestConfig
+     * @throws IOException If the report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int concurrency = TestConfig.LOAD_CONCURRENCY;
+        double rate = TestConfig.LOAD_RATE;
+        Duration duration = TestConfig.LOAD_DURATION;
+        Path reportDir = Path.of(System.getProperty("load.report.dir", "build/reports/load"));
+        
+        System.out.println("Running load: " + concurrency + " virtual users, "
+                + (rate > 0 ? rate + " req/s" : "unthrottled") + ", " + duration.toSeconds() + " s");
+        LoadReport report = new LoadRunner(concurrency, rate, duration).run();
+        report.print(System.out);
+        report.writeJson(reportDir.resolve("load-summary.json"));
+        System.out.println("Load summary written to " + reportDir.resolve("load-summary.json"));
+        
+        // Pooled keep-alive connections and the local server keep non-daemon threads alive
+        System.exit(0);
+    }
+}
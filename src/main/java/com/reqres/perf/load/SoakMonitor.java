@@ -0,0 +1,219 @@
+package com.reqres.perf.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Samples the harness JVM at a fixed interval during a soak run: heap used after a full GC, allocation
+ * rate, live threads and open pooled connections. A GC is forced before each heap sample so samples
+ * compare live data only, not garbage that happens not to be collected yet.
+ * Memory counts as leaking when the heap after GC at the end of the run stays above the first
+ * post-warmup sample by more than the allowed growth.
+ */
+public final class SoakMonitor implements AutoCloseable {
+    
+    // Growth is judged on the lowest of the last samples, so one sample taken mid-burst cannot fail a run
+    private static final int TAIL_SAMPLES = 3;
+    
+    private final Duration interval;
+    private final Duration warmup;
+    private final long maxHeapGrowthBytes;
+    private final IntSupplier openConnections;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<Sample> samples = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "soak-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private long startNanos;
+    private long lastAllocatedBytes;
+    private long lastSampleNanos;
+    
+    /**
+     * One observation of the harness
+     * @param elapsed Time since the monitor started
+     * @param heapAfterGcBytes Heap in use right after a full GC
+     * @param allocationBytesPerSecond Bytes allocated per second since the previous sample, -1 if unsupported
+     * @param threadCount Live platform threads
+     * @param openConnections Pooled HTTP connections, in use or idle
+     */
+    public record Sample(Duration elapsed, long heapAfterGcBytes, long allocationBytesPerSecond,
+                         int threadCount, int openConnections) {
+    }
+    
+    /**
+     * Outcome of the growth check
+     * @param baseline First sample after the warmup, or null if the run was too short
+     * @param heapGrowthBytes Lowest heap after GC of the last samples minus the baseline's
+     * @param threadGrowth Threads at the end minus threads at the baseline
+     * @param leaking Whether the heap grew past the allowed growth
+     */
+    public record Verdict(Sample baseline, long heapGrowthBytes, int threadGrowth, boolean leaking) {
+    }
+    
+    /**
+     * Constructor for SoakMonitor
+     * @param interval Time between samples
+     * @param warmup Start of the run left out of the growth check
+     * @param maxHeapGrowthMb Allowed heap growth after GC, in megabytes
+     * @param openConnections Supplies the number of open connections, e.g. HttpClientPool::getOpenConnections
+     */
+    public SoakMonitor(Duration interval, Duration warmup, long maxHeapGrowthMb, IntSupplier openConnections) {
+        this.interval = interval;
+        this.warmup = warmup;
+        this.maxHeapGrowthBytes = maxHeapGrowthMb * 1024 * 1024;
+        this.openConnections = openConnections;
+    }
+    
+    /**
+     * Take a first sample and keep sampling at the interval until closed
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        lastSampleNanos = startNanos;
+        lastAllocatedBytes = allocatedBytes();
+        scheduler.scheduleAtFixedRate(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Stop sampling, after taking a last sample
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sample();
+    }
+    
+    /**
+     * Get the samples taken so far
+     * @return Samples in the order they were taken
+     */
+    public synchronized List<Sample> getSamples() {
+        return List.copyOf(samples);
+    }
+    
+    /**
+     * Check the samples for memory growth
+     * @return The verdict; not leaking when there are too few post-warmup samples to judge
+     */
+    public synchronized Verdict verdict() {
+        List<Sample> measured = samples.stream().filter(sample -> sample.elapsed().compareTo(warmup) >= 0).toList();
+        if (measured.size() <= TAIL_SAMPLES) {
+            return new Verdict(null, 0, 0, false);
+        }
+        Sample baseline = measured.get(0);
+        long tailHeap = measured.subList(measured.size() - TAIL_SAMPLES, measured.size()).stream()
+                .mapToLong(Sample::heapAfterGcBytes).min().orElse(baseline.heapAfterGcBytes());
+        long growth = tailHeap - baseline.heapAfterGcBytes();
+        int threadGrowth = measured.get(measured.size() - 1).threadCount() - baseline.threadCount();
+        return new Verdict(baseline, growth, threadGrowth, growth > maxHeapGrowthBytes);
+    }
+    
+    /**
+     * Print the samples and the verdict as a table
+     * @param out Stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf("%10s %14s %16s %8s %12s%n", "Elapsed s", "Heap after GC", "Alloc MB/s", "Threads", "Connections");
+        for (Sample sample : getSamples()) {
+            out.printf("%10d %11.1f MB %16s %8d %12d%n", sample.elapsed().toSeconds(), megabytes(sample.heapAfterGcBytes()),
+                    sample.allocationBytesPerSecond() < 0 ? "n/a" : String.format("%.1f", megabytes(sample.allocationBytesPerSecond())),
+                    sample.threadCount(), sample.openConnections());
+        }
+        Verdict verdict = verdict();
+        if (verdict.baseline() == null) {
+            out.println("Too few samples after the warmup to check for growth");
+            return;
+        }
+        out.printf("Heap growth after warmup: %.1f MB (limit %.1f MB), thread growth: %d%n",
+                megabytes(verdict.heapGrowthBytes()), megabytes(maxHeapGrowthBytes), verdict.threadGrowth());
+    }
+    
+    /**
+     * Write the samples and the verdict as JSON
+     * @param file Target file; parent directories are created as needed
+     * @throws IOException If the file cannot be written
+     */
+    public void writeJson(Path file) throws IOException {
+        JSONArray rows = new JSONArray();
+        for (Sample sample : getSamples()) {
+            JSONObject row = new JSONObject();
+            row.put("elapsed_s", sample.elapsed().toMillis() / 1_000.0);
+            row.put("heap_after_gc_bytes", sample.heapAfterGcBytes());
+            row.put("allocation_bytes_per_s", sample.allocationBytesPerSecond());
+            row.put("threads", sample.threadCount());
+            row.put("open_connections", sample.openConnections());
+            rows.put(row);
+        }
+        Verdict verdict = verdict();
+        JSONObject report = new JSONObject();
+        report.put("samples", rows);
+        report.put("heap_growth_bytes", verdict.heapGrowthBytes());
+        report.put("heap_growth_limit_bytes", maxHeapGrowthBytes);
+        report.put("thread_growth", verdict.threadGrowth());
+        report.put("leaking", verdict.leaking());
+        
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, report.toString(2), StandardCharsets.UTF_8);
+    }
+    
+    private void sample() {
+        long now = System.nanoTime();
+        // Request a full collection so the heap sample holds live data only
+        System.gc();
+        long heapAfterGc = memory.getHeapMemoryUsage().getUsed();
+        
+        long allocated = allocatedBytes();
+        long rate = -1;
+        synchronized (this) {
+            if (allocated >= 0 && !samples.isEmpty() && now > lastSampleNanos) {
+                // Threads that ended since the last sample take their counts with them, so clamp at zero
+                rate = Math.max(0, (allocated - lastAllocatedBytes) * 1_000_000_000L / (now - lastSampleNanos));
+            }
+            lastAllocatedBytes = allocated;
+            lastSampleNanos = now;
+            samples.add(new Sample(Duration.ofNanos(now - startNanos), heapAfterGc, rate,
+                    threads.getThreadCount(), openConnections.getAsInt()));
+        }
+    }
+    
+    /**
+     * Bytes allocated by all live threads, or -1 when the JVM cannot tell
+     */
+    private long allocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemoryEnabled()) {
+            return hotspot.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+    
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
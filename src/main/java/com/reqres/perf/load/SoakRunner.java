@@ -0,0 +1,64 @@
+package com.reqres.perf.load;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.reqres.config.TestConfig;
+import com.reqres.util.api.HttpClientPool;
+
+/**
+ * Soak mode: repeats the UserApiTests scenarios for a long time while a {@link SoakMonitor} samples the
+ * harness, and fails when its heap keeps growing. The scenarios run through {@link LoadRunner}, so
+ * concurrency and pacing come from {@code load.concurrency} and {@code load.rate}.
+ *
+ * <p>Settings (TestConfig, per environment): {@code soak.duration}, {@code soak.sample.interval} and
+ * {@code soak.warmup} in seconds, {@code soak.heap.growth.max.mb}; system property {@code soak.report.dir}
+ * output directory.
+ */
+public final class SoakRunner {
+    
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SoakRunner() {
+        throw new AssertionError("Utility class - should not be instantiated");
+    }
+    
+    /**
+     * Entry point for the soakTest Gradle task
+     * @param args Unused; settings are read from TestConfig
+     * @throws IOException If a report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Duration duration = TestConfig.SOAK_DURATION;
+        Path reportDir = Path.of(System.getProperty("soak.report.dir", "build/reports/soak"));
+        
+        System.out.println("Running soak: " + TestConfig.LOAD_CONCURRENCY + " virtual users, "
+                + (TestConfig.LOAD_RATE > 0 ? TestConfig.LOAD_RATE + " req/s" : "unthrottled") + ", "
+                + duration.toSeconds() + " s, sampling every " + TestConfig.SOAK_SAMPLE_INTERVAL.toSeconds() + " s");
+        SoakMonitor monitor = new SoakMonitor(TestConfig.SOAK_SAMPLE_INTERVAL, TestConfig.SOAK_WARMUP,
+                TestConfig.SOAK_HEAP_GROWTH_MAX_MB, HttpClientPool::getOpenConnections);
+        LoadReport report;
+        monitor.start();
+        try {
+            report = new LoadRunner(TestConfig.LOAD_CONCURRENCY, TestConfig.LOAD_RATE, duration).run();
+        } finally {
+            monitor.close();
+        }
+        
+        report.print(System.out);
+        monitor.print(System.out);
+        report.writeJson(reportDir.resolve("load-summary.json"));
+        monitor.writeJson(reportDir.resolve("soak-samples.json"));
+        System.out.println("Soak reports written to " + reportDir);
+        
+        SoakMonitor.Verdict verdict = monitor.verdict();
+        if (verdict.leaking()) {
+            System.err.println("Harness heap grew by " + verdict.heapGrowthBytes() / (1024 * 1024) + " MB after GC, more than "
+                    + TestConfig.SOAK_HEAP_GROWTH_MAX_MB + " MB (soak.heap.growth.max.mb)");
+        }
+        // Pooled keep-alive connections and the local server keep non-daemon threads alive
+        System.exit(verdict.leaking() ? 1 : 0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.reqres.perf.load;
+
+import static io.restassured.RestAssured.given;
+
+import java.util.List;
+
+import org.json.JSONObject;
+
+import com.reqres.util.api.RestUtil;
+import com.reqres.util.api.model.UserResponses;
+import com.reqres.util.data.TestDataLoader;
+import com.reqres.util.data.TestDataManager;
+import com.reqres.util.data.UserPayloadEncoder;
+
+import io.restassured.response.Response;
+
+/**
+ * The CRUD flows of UserApiTests as load scenarios.
+ * Each scenario sends the same request with the same test data as its test and checks the expected status;
+ * scenarios that need a user ID take it from the find-by-email step of the same virtual user.
+ */
+public enum UserScenario {
+    
+    LIST_USERS("GET /users", 200, false) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec()).get("/users");
+        }
+    },
+    
+    FIND_USER_BY_EMAIL("GET /users?page&per_page", 200, false) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec())
+                    .queryParam("page", Fixtures.PAGE)
+                    .queryParam("per_page", Fixtures.PER_PAGE)
+                    .get("/users");
+        }
+        
+        @Override
+        void onSuccess(Response response, TestDataManager state) {
+            List<Integer> ids = UserResponses.userPage(response).idsByEmail(Fixtures.EMAIL);
+            if (ids.isEmpty()) {
+                throw new IllegalStateException("User with email " + Fixtures.EMAIL + " not found");
+            }
+            state.storeData(TestDataManager.KEY_USER_ID, ids.get(0));
+        }
+    },
+    
+    GET_USER("GET /users/{id}", 200, true) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec())
+                    .pathParam("id", state.<Integer>retrieveData(TestDataManager.KEY_USER_ID))
+                    .get("/users/{id}");
+        }
+    },
+    
+    CREATE_USER("POST /users", 201, false) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec())
+                    .body(Fixtures.CREATE_BODY)
+                    .post("/users");
+        }
+    },
+    
+    UPDATE_USER("PUT /users/{id}", 200, true) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec())
+                    .pathParam("id", state.<Integer>retrieveData(TestDataManager.KEY_USER_ID))
+                    .body(Fixtures.UPDATE_BODY)
+                    .put("/users/{id}");
+        }
+    },
+    
+    DELETE_USER("DELETE /users/{id}", 204, true) {
+        @Override
+        Response send(TestDataManager state) {
+            return given().spec(RestUtil.getUnreportedRequestSpec())
+                    .pathParam("id", state.<Integer>retrieveData(TestDataManager.KEY_USER_ID))
+                    .delete("/users/{id}");
+        }
+    };
+    
+    private final String endpoint;
+    private final int expectedStatus;
+    private final boolean requiresUserId;
+    
+    UserScenario(String endpoint, int expectedStatus, boolean requiresUserId) {
+        this.endpoint = endpoint;
+        this.expectedStatus = expectedStatus;
+        this.requiresUserId = requiresUserId;
+    }
+    
+    /**
+     * Send the scenario's request
+     * @param state Data shared between the scenarios of one virtual user
+     * @return The response
+     */
+    abstract Response send(TestDataManager state);
+    
+    /**
+     * Extract data needed by later scenarios from a successful response
+     * @param response Response with the expected status
+     * @param state Data shared between the scenarios of one virtual user
+     */
+    void onSuccess(Response response, TestDataManager state) {
+        // Most scenarios hand nothing on
+    }
+    
+    /**
+     * Get the endpoint label used in reports
+     * @return Endpoint label
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    /**
+     * Get the status code that counts as success
+     * @return Expected status code
+     */
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+    
+    /**
+     * Whether the scenario can only run once a user ID has been found
+     * @return true if a user ID is required
+     */
+    public boolean requiresUserId() {
+        return requiresUserId;
+    }
+    
+    /**
+     * Test data from testdata.json, loaded once on first use
+     */
+    private static final class Fixtures {
+        private static final JSONObject USERS = TestDataLoader.getUserData();
+        private static final JSONObject PAGINATION = TestDataLoader.getPaginationData();
+        static final String EMAIL = USERS.getJSONObject("default").getString("email");
+        static final int PAGE = PAGINATION.getInt("default_page");
+        static final int PER_PAGE = PAGINATION.getInt("default_per_page");
+        static final String CREATE_NAME = USERS.getJSONObject("create").getString("name");
+        static final String CREATE_JOB = USERS.getJSONObject("create").getString("job");
+        static final String UPDATE_NAME = USERS.getJSONObject("update").getString("name");
+        static final String UPDATE_JOB = USERS.getJSONObject("update").getString("job");
+        // Bodies never change during a run, so they are encoded once and the same bytes sent every iteration
+        static final byte[] CREATE_BODY = UserPayloadEncoder.userBody(CREATE_NAME, CREATE_JOB);
+        static final byte[] UPDATE_BODY = UserPayloadEncoder.userBody(UPDATE_NAME, UPDATE_JOB);
+    }
+}
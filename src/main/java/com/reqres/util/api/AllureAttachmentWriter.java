@@ -0,0 +1,116 @@
+package com.reqres.util.api;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * Writes Allure attachment files on a background thread.
+ * The attachment is registered with the running test on the caller's thread, which is cheap;
+ * the file itself is queued and written in batches. When the queue is full the caller writes the file
+ * itself, and anything still queued is written before the JVM exits.
+ */
+public final class AllureAttachmentWriter {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 64;
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    private static final AllureAttachmentWriter INSTANCE = new AllureAttachmentWriter();
+
+    private final BlockingQueue<PendingAttachment> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    // Attachments queued or being written; flush() waits for this to reach zero
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread writer;
+
+    private record PendingAttachment(AllureLifecycle lifecycle, String source, byte[] content) {
+    }
+
+    private AllureAttachmentWriter() {
+        writer = new Thread(this::run, "allure-attachment-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "allure-attachment-flush"));
+    }
+
+    /**
+     * Get the JVM-wide writer
+     * @return The shared writer
+     */
+    public static AllureAttachmentWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Attach content to the current test or step, writing the file in the background
+     * @param name Attachment name shown in the report
+     * @param type MIME type, e.g. "text/plain"
+     * @param extension File extension including the dot, e.g. ".txt"
+     * @param content Attachment content
+     */
+    public void attach(String name, String type, String extension, byte[] content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            // Outside of a test (e.g. load runs) there is nothing to attach to
+            return;
+        }
+        String source = lifecycle.prepareAttachment(name, type, extension);
+        PendingAttachment attachment = new PendingAttachment(lifecycle, source, content);
+        pending.incrementAndGet();
+        if (!queue.offer(attachment)) {
+            write(attachment);
+        }
+    }
+
+    /**
+     * Write every queued attachment, and wait for the batch in progress, before returning
+     */
+    public void flush() {
+        List<PendingAttachment> batch = new ArrayList<>();
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            batch.forEach(this::write);
+            batch.clear();
+        }
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingAttachment> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                batch.forEach(this::write);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(PendingAttachment attachment) {
+        try {
+            attachment.lifecycle().writeAttachment(attachment.source(), new ByteArrayInputStream(attachment.content()));
+        } catch (RuntimeException e) {
+            System.err.println("Failed to write Allure attachment " + attachment.source() + ": " + e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reqres.util.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.reqres.config.TestConfig.CaptureMode;
+
+import io.qameta.allure.Allure;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Lightweight alternative to AllureRestAssured for large runs.
+ * Attaches each captured exchange as one plain-text attachment with bodies cut at a size limit,
+ * captures only a sample of requests or only failures, and can hand file writing to
+ * {@link AllureAttachmentWriter} so the request thread is not blocked on disk.
+ */
+public class AllureCaptureFilter implements OrderedFilter {
+
+    /**
+     * Order of the Allure filters: outside {@link LatencyRecordingFilter}, so attachment writing is not measured
+     */
+    public static final int ORDER = LatencyRecordingFilter.ORDER - 1;
+
+    private final CaptureMode mode;
+    private final int sampleEvery;
+    private final int maxBodyBytes;
+    private final boolean async;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    /**
+     * Constructor for AllureCaptureFilter
+     * @param mode ALL, SAMPLED, FAILURES or NONE
+     * @param sampleEvery In the SAMPLED mode, attach every Nth request
+     * @param maxBodyBytes Bodies longer than this are truncated
+     * @param async Whether attachment files are written in the background
+     */
+    public AllureCaptureFilter(CaptureMode mode, int sampleEvery, int maxBodyBytes, boolean async) {
+        if (mode == CaptureMode.FULL) {
+            throw new IllegalArgumentException("The full capture mode is served by AllureRestAssured");
+        }
+        this.mode = mode;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.maxBodyBytes = Math.max(0, maxBodyBytes);
+        this.async = async;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long sequence = requestCount.incrementAndGet();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            if (mode != CaptureMode.NONE) {
+                attach(requestSpec, null, e);
+            }
+            throw e;
+        }
+        if (shouldCapture(sequence, response.statusCode())) {
+            attach(requestSpec, response, null);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean shouldCapture(long sequence, int status) {
+        boolean failed = status >= 400;
+        return switch (mode) {
+            case ALL -> true;
+            case SAMPLED -> failed || sequence % sampleEvery == 0;
+            case FAILURES -> failed;
+            default -> false;
+        };
+    }
+
+    private void attach(FilterableRequestSpecification requestSpec, Response response, RuntimeException failure) {
+        StringBuilder text = new StringBuilder(512);
+        text.append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI()).append('\n');
+        for (Header header : requestSpec.getHeaders()) {
+            text.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        appendBody(text, bodyText(requestSpec.getBody()));
+
+        text.append("\n--- response ---\n");
+        if (response == null) {
+            text.append(failure).append('\n');
+        } else {
+            text.append(response.getStatusLine()).append('\n');
+            for (Header header : response.getHeaders()) {
+                text.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+            }
+            appendBody(text, response.asString());
+        }
+
+        String name = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath()
+                + (response == null ? " (failed)" : " -> " + response.statusCode());
+        byte[] content = text.toString().getBytes(StandardCharsets.UTF_8);
+        if (async) {
+            AllureAttachmentWriter.getInstance().attach(name, "text/plain", ".txt", content);
+        } else {
+            Allure.getLifecycle().addAttachment(name, "text/plain", ".txt", content);
+        }
+    }
+
+    private void appendBody(StringBuilder text, String body) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        text.append('\n');
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBodyBytes) {
+            text.append(body).append('\n');
+            return;
+        }
+        // Cutting at a byte boundary may split a character; the decoder replaces the fragment
+        text.append(new String(bytes, 0, maxBodyBytes, StandardCharsets.UTF_8))
+                .append("\n... [truncated ").append(bytes.length - maxBodyBytes).append(" of ").append(bytes.length).append(" bytes]\n");
+    }
+
+    private static String bodyText(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return String.valueOf(body);
+    }
+}
@@ -0,0 +1,358 @@
+package com.reqres.util.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+
+import com.reqres.config.TestConfig;
+import com.reqres.config.TestConfig.HttpMode;
+import com.reqres.perf.EndpointStats;
+import com.reqres.perf.RequestMetrics;
+import com.reqres.util.api.model.CreatedUser;
+import com.reqres.util.api.model.UpdatedUser;
+import com.reqres.util.api.model.User;
+import com.reqres.util.api.model.UserPage;
+import com.reqres.util.api.ResponseRecordings.RecordedResponse;
+import com.reqres.util.api.model.UserResponses;
+import com.reqres.util.data.UserPayloadEncoder;
+
+import io.restassured.http.Header;
+
+/**
+ * Non-blocking client for the /users resource built on {@link java.net.http.HttpClient}.
+ * Every call returns a CompletableFuture, so flows such as create, update and delete can be chained
+ * and thousands of them kept in flight on a handful of threads; no thread waits on a response.
+ * Requests share the {@link RateLimiter} and {@link RetryPolicy} of the Rest Assured client.
+ * Latency is recorded into {@link RequestMetrics#global()} like the Rest Assured calls, and into the metrics of the
+ * test invocation whose thread sent the request; later steps of a chain are sent from the client's own threads and
+ * are recorded run-wide only. Requests bypass the Rest Assured filters, so they are not attached to Allure; in the
+ * record and replay HTTP modes the client saves and serves responses itself, in the same recordings directory as
+ * {@link RecordReplayFilter}.
+ */
+public final class AsyncUserClient implements AutoCloseable {
+
+    /**
+     * Default number of threads that complete responses and run dependent stages
+     */
+    public static final int DEFAULT_THREADS = 2;
+
+    private static final String API_KEY_HEADER = "x-api-key";
+    private static final String USERS_PATH = "/users";
+    private static final String USER_PATH_TEMPLATE = "/users/{id}";
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final RequestMetrics metrics;
+    private final RateLimiter limiter;
+    private final RetryPolicy retryPolicy;
+    private final HttpMode mode;
+    // Null in the live mode
+    private final ResponseRecordings recordings;
+
+    /**
+     * Result of a create, update and delete chain
+     * @param created The created user
+     * @param updated The same user after the update
+     */
+    public record CrudChainResult(CreatedUser created, UpdatedUser updated) {
+    }
+
+    /**
+     * Constructor for AsyncUserClient
+     * @param baseUrl Base URL of the API, e.g. "https://reqres.in/api"
+     * @param apiKey Value of the x-api-key header
+     * @param threads Number of threads completing responses
+     */
+    public AsyncUserClient(String baseUrl, String apiKey, int threads) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofMillis(TestConfig.REQUEST_TIMEOUT);
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        this.client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(TestConfig.CONNECT_TIMEOUT))
+                .build();
+        this.metrics = RequestMetrics.global();
+        this.limiter = RateLimiter.global();
+        this.retryPolicy = RetryPolicy.global();
+        this.mode = TestConfig.HTTP_MODE;
+        this.recordings = mode == HttpMode.LIVE ? null : new ResponseRecordings(Path.of(TestConfig.RECORDINGS_DIR));
+    }
+
+    /**
+     * Create a client for the active environment
+     * @return Client with the configured base URL and API key
+     */
+    public static AsyncUserClient create() {
+        return new AsyncUserClient(TestConfig.BASE_URL, TestConfig.API_KEY, DEFAULT_THREADS);
+    }
+
+    /**
+     * GET /users
+     * @param page Page number, starting at 1
+     * @param perPage Page size
+     * @return Future of the page
+     */
+    public CompletableFuture<UserPage> listUsers(int page, int perPage) {
+        return send("GET", USERS_PATH, USERS_PATH + "?page=" + page + "&per_page=" + perPage, null, 200)
+                .thenApply(UserResponses::userPage);
+    }
+
+    /**
+     * GET /users/{id}
+     * @param id User ID
+     * @return Future of the user
+     */
+    public CompletableFuture<User> getUser(int id) {
+        return send("GET", USER_PATH_TEMPLATE, USERS_PATH + "/" + id, null, 200)
+                .thenApply(UserResponses::singleUser);
+    }
+
+    /**
+     * POST /users
+     * @param name User's name
+     * @param job User's job
+     * @return Future of the created user
+     */
+    public CompletableFuture<CreatedUser> createUser(String name, String job) {
+        return send("POST", USERS_PATH, USERS_PATH, UserPayloadEncoder.userBody(name, job), 201)
+                .thenApply(UserResponses::createdUser);
+    }
+
+    /**
+     * POST /users with a prepared payload, e.g. from TestDataFactory
+     * @param payload Request body
+     * @return Future of the created user
+     */
+    public CompletableFuture<CreatedUser> createUser(JSONObject payload) {
+        return createUser(payload.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * POST /users with an encoded body, e.g. from UserPayloadEncoder or TestDataFactory.generateUserBodies
+     * @param body UTF-8 JSON request body; must not be modified until the future completes
+     * @return Future of the created user
+     */
+    public CompletableFuture<CreatedUser> createUser(byte[] body) {
+        return send("POST", USERS_PATH, USERS_PATH, body, 201)
+                .thenApply(UserResponses::createdUser);
+    }
+
+    /**
+     * PUT /users/{id}
+     * @param id User ID
+     * @param name User's name
+     * @param job User's new job
+     * @return Future of the updated user
+     */
+    public CompletableFuture<UpdatedUser> updateUser(String id, String name, String job) {
+        return send("PUT", USER_PATH_TEMPLATE, USERS_PATH + "/" + id, UserPayloadEncoder.userBody(name, job), 200)
+                .thenApply(UserResponses::updatedUser);
+    }
+
+    /**
+     * DELETE /users/{id}
+     * @param id User ID
+     * @return Future completing once the user is deleted
+     */
+    public CompletableFuture<Void> deleteUser(String id) {
+        return send("DELETE", USER_PATH_TEMPLATE, USERS_PATH + "/" + id, null, 204)
+                .thenApply(body -> null);
+    }
+
+    /**
+     * Create a user, update its job and delete it, each step starting when the previous one completes
+     * @param name User's name
+     * @param job Job the user is created with
+     * @param updatedJob Job the user is updated to
+     * @return Future of the created and updated user, completing after the delete
+     */
+    public CompletableFuture<CrudChainResult> createUpdateDelete(String name, String job, String updatedJob) {
+        return createUser(name, job)
+                .thenCompose(created -> updateUser(created.id(), name, updatedJob)
+                        .thenCompose(updated -> deleteUser(created.id())
+                                .thenApply(deleted -> new CrudChainResult(created, updated))));
+    }
+
+    /**
+     * Close the underlying HTTP client and its threads, waiting for in-flight requests
+     */
+    @Override
+    public void close() {
+        client.close();
+        executor.shutdown();
+    }
+
+    private CompletableFuture<String> send(String method, String pathTemplate, String path, byte[] body, int expectedStatus) {
+        // The invocation is looked up here, on the caller's thread; responses complete on the client's threads
+        RequestMetrics invocation = RequestMetrics.invocation();
+        Recorder stats = new Recorder(metrics.endpoint(method, pathTemplate),
+                invocation == null ? null : invocation.endpoint(method, pathTemplate));
+        CompletableFuture<RecordedResponse> response;
+        if (mode == HttpMode.REPLAY) {
+            response = replay(method, pathTemplate, recordingKey(method, pathTemplate, path, body), stats);
+        } else {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(requestTimeout)
+                    .header(API_KEY_HEADER, apiKey)
+                    .header("Content-Type", "application/json")
+                    .method(method, body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            response = sendThrottled(request, stats, 0).thenApply(AsyncUserClient::toRecordedResponse);
+            if (mode == HttpMode.RECORD) {
+                String key = recordingKey(method, pathTemplate, path, body);
+                response = response.thenApply(recorded -> {
+                    recordings.save(method, pathTemplate, key, recorded);
+                    return recorded;
+                });
+            }
+        }
+        return response.thenApply(recorded -> {
+            if (recorded.statusCode() != expectedStatus) {
+                throw new IllegalStateException(method + " " + path + " returned status " + recorded.statusCode()
+                        + ", expected " + expectedStatus);
+            }
+            return recorded.body();
+        });
+    }
+
+    /**
+     * Serve a recorded response without touching the network or the rate limiter
+     */
+    private CompletableFuture<RecordedResponse> replay(String method, String pathTemplate, String key, Recorder stats) {
+        long start = System.nanoTime();
+        return recordings.find(method, pathTemplate, key)
+                .map(recorded -> {
+                    stats.record(System.nanoTime() - start, recorded.statusCode(), 0,
+                            recorded.body().getBytes(StandardCharsets.UTF_8).length);
+                    return CompletableFuture.completedFuture(recorded);
+                })
+                .orElseGet(() -> CompletableFuture.failedFuture(new IllegalStateException(
+                        "No recorded response for " + key + " in " + recordings.getDirectory()
+                                + "; record one with -P http.mode=record")));
+    }
+
+    /**
+     * Send once the rate limiter allows it, retrying throttled idempotent requests after a delay.
+     * Waits are scheduled, not slept, so no thread is held while a request waits for its turn; they are recorded as
+     * client wait, and only the sends themselves as latency.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> sendThrottled(HttpRequest request, Recorder stats, int retries) {
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(limiter.reserve());
+        stats.recordClientWait(waitMillis);
+        return after(waitMillis)
+                .thenCompose(ignored -> sendMeasured(request, stats))
+                .thenCompose(response -> {
+                    long retryAfterMillis = RetryPolicy.parseRetryAfterMillis(response.headers().firstValue("Retry-After").orElse(null));
+                    if (!RetryPolicy.isThrottled(response.statusCode(), retryAfterMillis)) {
+                        limiter.onSuccess();
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    limiter.onThrottled(retryAfterMillis);
+                    if (!retryPolicy.canRetry(request.method(), retries)) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    long backoffMillis = retryPolicy.backoffMillis(retries, retryAfterMillis);
+                    stats.recordClientWait(backoffMillis);
+                    return after(backoffMillis)
+                            .thenCompose(ignored -> sendThrottled(request, stats, retries + 1));
+                });
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> sendMeasured(HttpRequest request, Recorder stats) {
+        long requestBytes = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        stats.recordError();
+                    } else {
+                        stats.record(System.nanoTime() - start, response.statusCode(), Math.max(0, requestBytes),
+                                response.body().length);
+                    }
+                });
+    }
+
+    /**
+     * Records a request's outcome into the run-wide statistics of its endpoint and, when a test invocation sent it,
+     * into the invocation's statistics
+     */
+    private record Recorder(EndpointStats run, EndpointStats invocation) {
+
+        void record(long nanos, int status, long requestBodyBytes, long responseBodyBytes) {
+            run.record(nanos, status, requestBodyBytes, responseBodyBytes);
+            if (invocation != null) {
+                invocation.record(nanos, status, requestBodyBytes, responseBodyBytes);
+            }
+        }
+
+        void recordError() {
+            run.recordError();
+            if (invocation != null) {
+                invocation.recordError();
+            }
+        }
+
+        void recordClientWait(long millis) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+            run.recordClientWait(nanos);
+            if (invocation != null) {
+                invocation.recordClientWait(nanos);
+            }
+        }
+    }
+
+    private static RecordedResponse toRecordedResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        return new RecordedResponse(
+                response.statusCode(),
+                (response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1") + " " + response.statusCode(),
+                response.headers().firstValue("Content-Type").orElse(""),
+                headers,
+                new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Key a request like {@link RecordReplayFilter} does: method, path template, path with its query, body hash
+     */
+    private static String recordingKey(String method, String pathTemplate, String path, byte[] body) {
+        return method + " " + pathTemplate + " " + path + " " + ResponseRecordings.sha256(body == null ? new byte[0] : body);
+    }
+
+    private CompletableFuture<Void> after(long delayMillis) {
+        if (delayMillis <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor));
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            // Not inheriting thread locals keeps a test invocation's metrics from leaking into later requests
+            Thread thread = new Thread(null, runnable, "async-user-client-" + counter.incrementAndGet(), 0, false);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
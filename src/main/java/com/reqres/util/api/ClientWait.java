@@ -0,0 +1,37 @@
+package com.reqres.util.api;
+
+/**
+ * Time the calling thread spent inside the HTTP client waiting instead of sending: for the rate limiter, and
+ * between the attempts of a throttled request. {@link LatencyRecordingFilter} subtracts it from the time it
+ * measures, so recorded latency is the API's and client-side queueing is reported separately.
+ */
+final class ClientWait {
+    
+    private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[1]);
+    
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private ClientWait() {
+        throw new AssertionError("ClientWait is a utility class and should not be instantiated");
+    }
+    
+    /**
+     * Add waiting time of the current thread
+     * @param nanos Waiting time in nanoseconds
+     */
+    static void add(long nanos) {
+        NANOS.get()[0] += nanos;
+    }
+    
+    /**
+     * Get and clear the waiting time of the current thread
+     * @return Waiting time in nanoseconds since the last call
+     */
+    static long take() {
+        long[] nanos = NANOS.get();
+        long waited = nanos[0];
+        nanos[0] = 0;
+        return waited;
+    }
+}
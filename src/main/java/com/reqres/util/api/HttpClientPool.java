@@ -0,0 +1,148 @@
+package com.reqres.util.api;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import com.reqres.config.TestConfig;
+
+import io.restassured.config.HttpClientConfig;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Shared, bounded keep-alive connection pool for all Rest Assured requests.
+ * A single HTTP client is reused across tests and threads so TCP and TLS setup
+ * is only paid on the first request to each route. Every request passes the shared
+ * {@link RateLimiter}, and throttled idempotent requests are retried per {@link RetryPolicy}.
+ */
+@SuppressWarnings("deprecation") // Rest Assured is built on the HttpClient 4.x classic API
+public final class HttpClientPool {
+    
+    private static final PoolingClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+    private static final HttpClient HTTP_CLIENT = new ThrottledHttpClient(CONNECTION_MANAGER);
+    
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private HttpClientPool() {
+        throw new AssertionError("Utility class - should not be instantiated");
+    }
+    
+    /**
+     * Creates the HTTP client configuration backed by the shared pool, with timeouts from TestConfig
+     * @return HttpClientConfig that reuses the pooled client instance
+     */
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> HTTP_CLIENT)
+                .reuseHttpClientInstance()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, TestConfig.CONNECT_TIMEOUT)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, TestConfig.REQUEST_TIMEOUT)
+                .setParam(CoreConnectionPNames.TCP_NODELAY, true)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) TestConfig.REQUEST_TIMEOUT);
+    }
+    
+    /**
+     * Get the number of connections held by the pool, in use or idle
+     * @return Open pooled connections
+     */
+    public static int getOpenConnections() {
+        PoolStats stats = CONNECTION_MANAGER.getTotalStats();
+        return stats.getLeased() + stats.getAvailable();
+    }
+    
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(TestConfig.HTTP_POOL_MAX_TOTAL);
+        connectionManager.setDefaultMaxPerRoute(TestConfig.HTTP_POOL_MAX_PER_ROUTE);
+        return connectionManager;
+    }
+    
+    /**
+     * Client that waits for the rate limiter before each send and retries throttled idempotent requests.
+     * Rest Assured executes every request through {@link #execute(HttpUriRequest, HttpContext)}.
+     * Waiting time is reported through {@link ClientWait}, so it is not recorded as latency of the API.
+     */
+    private static final class ThrottledHttpClient extends DefaultHttpClient {
+        
+        private final RateLimiter limiter = RateLimiter.global();
+        private final RetryPolicy retryPolicy = RetryPolicy.global();
+        
+        ThrottledHttpClient(PoolingClientConnectionManager connectionManager) {
+            super(connectionManager);
+        }
+        
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+            return executeThrottled(request, () -> super.execute(request, context));
+        }
+        
+        @Override
+        public CloseableHttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+            return executeThrottled(request, () -> super.execute(target, request, context));
+        }
+        
+        private CloseableHttpResponse executeThrottled(HttpRequest request, Send send) throws IOException {
+            String method = request.getRequestLine().getMethod();
+            for (int retries = 0; ; retries++) {
+                long waitStart = System.nanoTime();
+                limiter.acquire();
+                ClientWait.add(System.nanoTime() - waitStart);
+                CloseableHttpResponse response = send.execute();
+                Header retryAfter = response.getFirstHeader("Retry-After");
+                long retryAfterMillis = RetryPolicy.parseRetryAfterMillis(retryAfter == null ? null : retryAfter.getValue());
+                if (!RetryPolicy.isThrottled(response.getStatusLine().getStatusCode(), retryAfterMillis)) {
+                    limiter.onSuccess();
+                    return response;
+                }
+                limiter.onThrottled(retryAfterMillis);
+                if (!retryPolicy.canRetry(method, retries) || !isRepeatable(request)) {
+                    return response;
+                }
+                // Release the connection back to the pool before waiting
+                EntityUtils.consumeQuietly(response.getEntity());
+                response.close();
+                long backoffStart = System.nanoTime();
+                sleep(retryPolicy.backoffMillis(retries, retryAfterMillis));
+                ClientWait.add(System.nanoTime() - backoffStart);
+                if (request instanceof HttpRequestBase base) {
+                    base.reset();
+                }
+            }
+        }
+        
+        private static boolean isRepeatable(HttpRequest request) {
+            return !(request instanceof HttpEntityEnclosingRequest enclosing)
+                    || enclosing.getEntity() == null
+                    || enclosing.getEntity().isRepeatable();
+        }
+        
+        private static void sleep(long millis) throws InterruptedIOException {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry a throttled request");
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Send {
+        CloseableHttpResponse execute() throws IOException;
+    }
+}
@@ -0,0 +1,89 @@
+package com.reqres.util.api;
+
+import java.nio.charset.StandardCharsets;
+
+import com.reqres.perf.ApiRequestEvent;
+import com.reqres.perf.EndpointStats;
+import com.reqres.perf.RequestMetrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that records the latency, status and payload sizes of every request,
+ * aggregated per method and path template into {@link RequestMetrics} and into the metrics of the running test
+ * invocation, if any, and emits an {@link ApiRequestEvent}
+ * for Java Flight Recorder.
+ * It is ordered inside the Allure filters and just outside {@link RecordReplayFilter}, so the measured time covers
+ * sending the request and reading the response but not writing report attachments. Time the HTTP client spends
+ * waiting for the rate limiter or between retries is subtracted and recorded separately as client wait.
+ */
+public class LatencyRecordingFilter implements OrderedFilter {
+    
+    /**
+     * Order of the filter: after the Allure filters ({@link AllureCaptureFilter#ORDER}), before RecordReplayFilter
+     */
+    public static final int ORDER = LOWEST_PRECEDENCE - 1;
+    
+    private final RequestMetrics metrics;
+    
+    /**
+     * Constructor for LatencyRecordingFilter
+     * @param metrics Metrics to record into
+     */
+    public LatencyRecordingFilter(RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        ClientWait.take();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Rate limiting and retry backoff happen inside the HTTP client; they are the client's time, not the API's
+        long waited = ClientWait.take();
+        long elapsed = System.nanoTime() - start - waited;
+        
+        String endpoint = pathTemplate(requestSpec);
+        long requestBytes = bodySize(requestSpec.getBody());
+        long responseBytes = response.asByteArray().length;
+        EndpointStats stats = metrics.endpoint(requestSpec.getMethod(), endpoint);
+        stats.record(elapsed, response.statusCode(), requestBytes, responseBytes);
+        stats.recordClientWait(waited);
+        RequestMetrics invocation = RequestMetrics.invocation();
+        if (invocation != null) {
+            EndpointStats invocationStats = invocation.endpoint(requestSpec.getMethod(), endpoint);
+            invocationStats.record(elapsed, response.statusCode(), requestBytes, responseBytes);
+            invocationStats.recordClientWait(waited);
+        }
+        event.complete(requestSpec.getMethod(), endpoint, response.statusCode(), requestBytes, responseBytes);
+        return response;
+    }
+    
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+    
+    private static String pathTemplate(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        return path == null || path.isEmpty() ? requestSpec.getDerivedPath() : path;
+    }
+    
+    private static long bodySize(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.reqres.util.api;
+
+import java.util.concurrent.TimeUnit;
+
+import com.reqres.config.TestConfig;
+
+/**
+ * Token-bucket rate limiter shared by every request of the JVM, whichever client sends it.
+ * The rate adapts to the server: a 429 response halves it (down to a floor) and pauses all callers
+ * for the Retry-After period, and each successful response raises it again by a twentieth of the
+ * configured rate. It never rises above the configured rate, which is therefore a hard cap: the limiter
+ * recovers to it after throttling but does not probe for a higher rate the server might accept.
+ */
+public final class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final double RECOVERY_STEPS = 20;
+
+    private static final RateLimiter GLOBAL = new RateLimiter(
+            TestConfig.RATE_LIMIT_PER_SECOND, TestConfig.RATE_LIMIT_BURST, TestConfig.RATE_LIMIT_MIN_PER_SECOND);
+
+    private final boolean enabled;
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+
+    // Guarded by this
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    /**
+     * Constructor for RateLimiter
+     * @param permitsPerSecond Sustained rate; 0 or less lets every request through immediately
+     * @param burst Number of requests allowed back to back
+     * @param minPermitsPerSecond Lowest rate reached by backing off after 429 responses
+     */
+    public RateLimiter(double permitsPerSecond, int burst, double minPermitsPerSecond) {
+        this.enabled = permitsPerSecond > 0;
+        this.maxRate = permitsPerSecond;
+        this.minRate = Math.min(Math.max(minPermitsPerSecond, 0.01), Math.max(permitsPerSecond, 0.01));
+        this.burst = Math.max(1, burst);
+        this.rate = permitsPerSecond;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Get the limiter shared by all clients, configured from TestConfig
+     * @return The JVM-wide limiter
+     */
+    public static RateLimiter global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Take a permit, blocking until it may be used
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the rate limiter", e);
+            }
+        }
+    }
+
+    /**
+     * Take a permit without blocking; the caller must wait the returned time before sending
+     * @return Nanoseconds to wait, 0 if the request may be sent now
+     */
+    public long reserve() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+            tokens -= 1;
+            long tokenWait = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+            return Math.max(tokenWait, pausedUntilNanos - now);
+        }
+    }
+
+    /**
+     * Slow down after a 429 response
+     * @param retryAfterMillis Delay requested by the server, or a negative value if none was given
+     */
+    public void onThrottled(long retryAfterMillis) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+            rate = Math.max(minRate, rate * BACKOFF_FACTOR);
+            tokens = Math.min(tokens, 0);
+            if (retryAfterMillis > 0) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+            }
+        }
+    }
+
+    /**
+     * Speed back up after a response that was not throttled
+     */
+    public void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (rate < maxRate) {
+                refill(System.nanoTime());
+                rate = Math.min(maxRate, rate + maxRate / RECOVERY_STEPS);
+            }
+        }
+    }
+
+    /**
+     * Get the current sustained rate
+     * @return Requests per second, or 0 when the limiter is disabled
+     */
+    public synchronized double getRate() {
+        return enabled ? rate : 0;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * rate / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
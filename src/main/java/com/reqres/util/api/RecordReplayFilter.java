@@ -0,0 +1,110 @@
+package com.reqres.util.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.reqres.config.TestConfig.HttpMode;
+import com.reqres.util.api.ResponseRecordings.RecordedResponse;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Rest Assured filter that records responses to disk or replays them without touching the network.
+ * Requests are keyed by method, path template, path parameters, query parameters and a hash of the body,
+ * so the same request always maps to the same recording.
+ * It is the innermost filter, after the Allure and latency filters, so replayed responses are still attached to the
+ * report.
+ */
+public class RecordReplayFilter implements OrderedFilter {
+
+    private final HttpMode mode;
+    private final ResponseRecordings recordings;
+
+    /**
+     * Constructor for RecordReplayFilter
+     * @param mode RECORD or REPLAY
+     * @param recordings Where responses are saved to or served from
+     */
+    public RecordReplayFilter(HttpMode mode, ResponseRecordings recordings) {
+        if (mode == HttpMode.LIVE) {
+            throw new IllegalArgumentException("Record/replay filter needs the RECORD or REPLAY mode");
+        }
+        this.mode = mode;
+        this.recordings = recordings;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String pathTemplate = pathTemplate(requestSpec);
+        String key = requestKey(requestSpec, method, pathTemplate);
+
+        if (mode == HttpMode.REPLAY) {
+            RecordedResponse recorded = recordings.find(method, pathTemplate, key).orElseThrow(() -> new IllegalStateException(
+                    "No recorded response for " + key + " in " + recordings.getDirectory()
+                            + "; record one with -P http.mode=record"));
+            return new ResponseBuilder()
+                    .setStatusCode(recorded.statusCode())
+                    .setStatusLine(recorded.statusLine())
+                    .setHeaders(new Headers(recorded.headers()))
+                    .setContentType(recorded.contentType())
+                    .setBody(recorded.body())
+                    .build();
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        List<Header> headers = new ArrayList<>();
+        response.getHeaders().forEach(headers::add);
+        String contentType = response.getContentType();
+        recordings.save(method, pathTemplate, key, new RecordedResponse(
+                response.statusCode(),
+                response.getStatusLine(),
+                contentType == null ? "" : contentType,
+                headers,
+                response.asString()));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private static String requestKey(FilterableRequestSpecification requestSpec, String method, String pathTemplate) {
+        Map<String, String> query = new TreeMap<>(requestSpec.getQueryParams());
+        if ("GET".equals(method)) {
+            query.putAll(requestSpec.getRequestParams());
+        }
+        return method + " " + pathTemplate
+                + " " + new TreeMap<>(requestSpec.getNamedPathParams()) + requestSpec.getUnnamedPathParamValues()
+                + " " + query
+                + " " + ResponseRecordings.sha256(bodyBytes(requestSpec.getBody()));
+    }
+
+    private static String pathTemplate(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        return path == null || path.isEmpty() ? requestSpec.getDerivedPath() : path;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        return String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,156 @@
+package com.reqres.util.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import io.restassured.http.Header;
+
+/**
+ * Directory of recorded HTTP responses, one JSON file per request key.
+ * File names start with the method and path template so recordings can be browsed and reviewed;
+ * replayed files are read once and then served from memory.
+ */
+public final class ResponseRecordings {
+
+    private final Path directory;
+    private final Map<String, Optional<RecordedResponse>> loaded = new ConcurrentHashMap<>();
+
+    /**
+     * A recorded response
+     * @param statusCode HTTP status code
+     * @param statusLine HTTP status line, e.g. "HTTP/1.1 200 OK"
+     * @param contentType Content-Type header value, or an empty string
+     * @param headers All response headers in their original order
+     * @param body Response body as text
+     */
+    public record RecordedResponse(int statusCode, String statusLine, String contentType, List<Header> headers, String body) {
+    }
+
+    /**
+     * Constructor for ResponseRecordings
+     * @param directory Directory the recordings are read from and written to
+     */
+    public ResponseRecordings(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the directory holding the recordings
+     * @return Recordings directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Look up the recorded response for a request
+     * @param method HTTP method
+     * @param pathTemplate Path template, e.g. "/users/{id}"
+     * @param key Full request key, see {@link RecordReplayFilter}
+     * @return The recorded response, if one exists
+     */
+    public Optional<RecordedResponse> find(String method, String pathTemplate, String key) {
+        return loaded.computeIfAbsent(key, k -> read(file(method, pathTemplate, k)));
+    }
+
+    /**
+     * Save the response to a request, replacing any earlier recording of the same request
+     * @param method HTTP method
+     * @param pathTemplate Path template, e.g. "/users/{id}"
+     * @param key Full request key, see {@link RecordReplayFilter}
+     * @param response The response to save
+     */
+    public void save(String method, String pathTemplate, String key, RecordedResponse response) {
+        JSONArray headers = new JSONArray();
+        for (Header header : response.headers()) {
+            headers.put(new JSONArray().put(header.getName()).put(header.getValue()));
+        }
+        JSONObject json = new JSONObject();
+        json.put("key", key);
+        json.put("status", response.statusCode());
+        json.put("statusLine", response.statusLine());
+        json.put("contentType", response.contentType());
+        json.put("headers", headers);
+        json.put("body", response.body());
+
+        Path target = file(method, pathTemplate, key);
+        try {
+            Files.createDirectories(directory);
+            // Concurrent recordings of the same request each write a temporary file and move it into place
+            Path temp = Files.createTempFile(directory, ".recording", ".tmp");
+            Files.writeString(temp, json.toString(2), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save recording " + target, e);
+        }
+        loaded.put(key, Optional.of(response));
+    }
+
+    private Optional<RecordedResponse> read(Path file) {
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recording " + file, e);
+        }
+        JSONObject json = new JSONObject(content);
+        JSONArray headerArray = json.getJSONArray("headers");
+        List<Header> headers = new ArrayList<>(headerArray.length());
+        for (int i = 0; i < headerArray.length(); i++) {
+            JSONArray header = headerArray.getJSONArray(i);
+            headers.add(new Header(header.getString(0), header.getString(1)));
+        }
+        return Optional.of(new RecordedResponse(
+                json.getInt("status"),
+                json.getString("statusLine"),
+                json.getString("contentType"),
+                headers,
+                json.getString("body")));
+    }
+
+    private Path file(String method, String pathTemplate, String key) {
+        String readable = (method + "_" + pathTemplate).replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_+|_+$", "");
+        return directory.resolve(readable + "_" + sha256(key).substring(0, 16) + ".json");
+    }
+
+    /**
+     * Hash text with SHA-256
+     * @param text Text to hash
+     * @return Lowercase hex digest
+     */
+    static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hash bytes with SHA-256
+     * @param bytes Bytes to hash
+     * @return Lowercase hex digest
+     */
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
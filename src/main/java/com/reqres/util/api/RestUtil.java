@@ -1,9 +1,19 @@
 package com.reqres.util.api;
 
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import com.reqres.config.TestConfig;
+import com.reqres.config.TestConfig.CaptureMode;
+import com.reqres.config.TestConfig.HttpMode;
+import com.reqres.perf.RequestMetrics;
 
+import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
@@ -14,6 +24,25 @@ import io.restassured.specification.RequestSpecification;
  */
 public final class RestUtil {
     
+    // Shared configuration so every request draws from the same connection pool
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientPool.httpClientConfig());
+    
+    private static final String API_KEY_HEADER = "x-api-key";
+    
+    // Prebuilt request specifications, one per environment base URL
+    private static final Map<String, RequestSpecification> REQUEST_SPECS = new ConcurrentHashMap<>();
+    private static final Map<String, RequestSpecification> UNREPORTED_REQUEST_SPECS = new ConcurrentHashMap<>();
+    
+    // Records or replays responses in the record and replay HTTP modes; null when requests go to the API
+    private static final RecordReplayFilter RECORD_REPLAY_FILTER = TestConfig.HTTP_MODE == HttpMode.LIVE
+            ? null
+            : new RecordReplayFilter(TestConfig.HTTP_MODE, new ResponseRecordings(Path.of(TestConfig.RECORDINGS_DIR)));
+    
+    // Global filters are installed once per JVM, however many test classes call setupRestAssured()
+    private static final AtomicBoolean FILTERS_INSTALLED = new AtomicBoolean();
+    private static final AtomicBoolean DETAILED_LOGGING_INSTALLED = new AtomicBoolean();
+    
     /**
      * Private constructor to prevent instantiation
      */
@@ -22,29 +51,102 @@ public final class RestUtil {
     }
     
     /**
-     * Creates a base request specification with common settings
+     * Gets the cached base request specification for the active environment.
+     * The specification carries the base URI, API key header and Allure filter (see allure.capture.mode)
+     * and must not be modified;
+     * layer path, query and body on top with {@code given().spec(RestUtil.getRequestSpec())}.
      * @return RequestSpecification with pre-configured settings
      */
     public static RequestSpecification getRequestSpec() {
+        return REQUEST_SPECS.computeIfAbsent(TestConfig.BASE_URL, baseUrl -> withRecordReplay(withAllureCapture(newRequestSpecBuilder(baseUrl)))
+                .build());
+    }
+    
+    /**
+     * Gets the cached base request specification without Allure reporting.
+     * Intended for load generation, where requests run outside of a test case.
+     * @return RequestSpecification with pre-configured settings
+     */
+    public static RequestSpecification getUnreportedRequestSpec() {
+        return UNREPORTED_REQUEST_SPECS.computeIfAbsent(TestConfig.BASE_URL, baseUrl -> withRecordReplay(newRequestSpecBuilder(baseUrl)).build());
+    }
+    
+    /**
+     * Creates a base request specification builder with common settings
+     * @param baseUrl Base URL of the target environment
+     * @return RequestSpecBuilder with pre-configured settings
+     */
+    private static RequestSpecBuilder newRequestSpecBuilder(String baseUrl) {
         return new RequestSpecBuilder()
-                .setBaseUri(TestConfig.BASE_URL)
+                .setConfig(CONFIG) // Must precede relaxed HTTPS validation, which amends the SSL config
+                .setBaseUri(baseUrl)
                 .setContentType(ContentType.JSON)
                 .setRelaxedHTTPSValidation() // For handling SSL certificates in testing
-                .build();
+                .addHeader(API_KEY_HEADER, TestConfig.API_KEY);
     }
     
     /**
-     * Setup configuration for Rest Assured
+     * Adds the Allure filter selected by the capture mode
+     * @param builder Builder to add the filter to
+     * @return The same builder
+     */
+    private static RequestSpecBuilder withAllureCapture(RequestSpecBuilder builder) {
+        CaptureMode mode = TestConfig.ALLURE_CAPTURE_MODE;
+        if (mode == CaptureMode.FULL) {
+            return builder.addFilter(new OrderedAllureRestAssured());
+        }
+        if (mode == CaptureMode.NONE) {
+            return builder;
+        }
+        return builder.addFilter(new AllureCaptureFilter(mode,
+                TestConfig.ALLURE_CAPTURE_SAMPLE_EVERY,
+                TestConfig.ALLURE_CAPTURE_MAX_BODY_BYTES,
+                TestConfig.ALLURE_CAPTURE_ASYNC));
+    }
+    
+    /**
+     * Adds the record/replay filter when the HTTP mode asks for it.
+     * Its order makes it the innermost filter, so it follows every other filter including the global ones.
+     * @param builder Builder with all other filters added
+     * @return The same builder
+     */
+    private static RequestSpecBuilder withRecordReplay(RequestSpecBuilder builder) {
+        return RECORD_REPLAY_FILTER == null ? builder : builder.addFilter(RECORD_REPLAY_FILTER);
+    }
+    
+    /**
+     * Setup configuration for Rest Assured and install the latency recording filter
      */
     public static void setupRestAssured() {
+        RestAssured.config = CONFIG;
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
-        RestAssured.requestSpecification = getRequestSpec();
+        // Only the base URI is set globally; a global spec would duplicate the header and filters of getRequestSpec()
+        RestAssured.baseURI = TestConfig.BASE_URL;
+        if (FILTERS_INSTALLED.compareAndSet(false, true)) {
+            RestAssured.filters(new LatencyRecordingFilter(RequestMetrics.global()));
+        }
     }
     
     /**
-     * Setup more detailed logging for debugging purposes
+     * Setup more detailed logging for debugging purposes.
+     * The logging filters are global, so they are added only once; repeated calls would stack them.
      */
     public static void enableDetailedLogging() {
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter());
+        if (DETAILED_LOGGING_INSTALLED.compareAndSet(false, true)) {
+            RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter());
+        }
+    }
+    
+    /**
+     * AllureRestAssured has the lowest precedence, like the innermost filters, so its place among them would depend
+     * on insertion order; ordered like {@link AllureCaptureFilter} it runs outside the latency filter, and HTML
+     * rendering and attachment writing are not measured as API time
+     */
+    private static final class OrderedAllureRestAssured extends AllureRestAssured {
+        
+        @Override
+        public int getOrder() {
+            return AllureCaptureFilter.ORDER;
+        }
     }
 }
\ No newline at end of file
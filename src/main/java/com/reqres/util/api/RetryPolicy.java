@@ -0,0 +1,107 @@
+package com.reqres.util.api;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.reqres.config.TestConfig;
+
+/**
+ * When and how long to wait before retrying a throttled request.
+ * Only idempotent methods are retried, after a 429 response, or a 503 response carrying Retry-After.
+ * Delays follow the server's Retry-After when present, otherwise exponential backoff with full jitter,
+ * so threads throttled together do not retry together.
+ */
+public final class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+
+    private static final RetryPolicy GLOBAL = new RetryPolicy(
+            TestConfig.RETRY_MAX_ATTEMPTS, TestConfig.RETRY_BASE_DELAY_MS, TestConfig.RETRY_MAX_DELAY_MS);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Constructor for RetryPolicy
+     * @param maxAttempts Maximum number of retries; 0 disables retrying
+     * @param baseDelayMillis Delay of the first backoff step
+     * @param maxDelayMillis Upper bound of any single delay
+     */
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxAttempts = Math.max(0, maxAttempts);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * Get the policy shared by all clients, configured from TestConfig
+     * @return The JVM-wide policy
+     */
+    public static RetryPolicy global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Check whether a response means the server is throttling us
+     * @param status HTTP status code
+     * @param retryAfterMillis Parsed Retry-After header, negative if absent
+     * @return true for 429, and for 503 with Retry-After
+     */
+    public static boolean isThrottled(int status, long retryAfterMillis) {
+        return status == 429 || (status == 503 && retryAfterMillis >= 0);
+    }
+
+    /**
+     * Check whether a throttled request may be sent again
+     * @param method HTTP method
+     * @param retriesSoFar Number of retries already made
+     * @return true if the method is idempotent and retries remain
+     */
+    public boolean canRetry(String method, int retriesSoFar) {
+        return retriesSoFar < maxAttempts && IDEMPOTENT_METHODS.contains(method);
+    }
+
+    /**
+     * Compute the delay before the next retry
+     * @param retriesSoFar Number of retries already made
+     * @param retryAfterMillis Parsed Retry-After header, negative if absent
+     * @return Delay in milliseconds
+     */
+    public long backoffMillis(int retriesSoFar, long retryAfterMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (retryAfterMillis >= 0) {
+            // Honour the server and spread the retries over one base delay after it
+            return Math.min(maxDelayMillis, retryAfterMillis) + random.nextLong(baseDelayMillis);
+        }
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retriesSoFar, 20));
+        return random.nextLong(ceiling + 1);
+    }
+
+    /**
+     * Parse a Retry-After header value, given either in seconds or as an HTTP date
+     * @param value Header value, may be null
+     * @return Delay in milliseconds, or -1 if absent or malformed
+     */
+    public static long parseRetryAfterMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(trimmed) * 1000);
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.reqres.util.api;
+
+import static io.restassured.RestAssured.given;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.reqres.util.api.model.User;
+import com.reqres.util.api.model.UserPage;
+import com.reqres.util.api.model.UserResponses;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Scans every page of GET /users.
+ * The first page is fetched to learn total_pages; the remaining pages are fetched concurrently
+ * by a bounded number of workers, each on its own virtual thread.
+ */
+public final class UserPageCrawler {
+
+    /**
+     * Default number of pages fetched at the same time
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final RequestSpecification spec;
+    private final int perPage;
+    private final int maxConcurrency;
+
+    /**
+     * Constructor for UserPageCrawler
+     * @param spec Base request specification, e.g. RestUtil.getRequestSpec()
+     * @param perPage Page size to request
+     * @param maxConcurrency Maximum number of pages fetched at the same time
+     */
+    public UserPageCrawler(RequestSpecification spec, int perPage, int maxConcurrency) {
+        if (perPage < 1 || maxConcurrency < 1) {
+            throw new IllegalArgumentException("Page size and concurrency must be at least 1");
+        }
+        this.spec = spec;
+        this.perPage = perPage;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Find the first user, in page order, matching a predicate.
+     * Pages after the earliest page with a match are not fetched once that match is known.
+     * @param predicate Condition to match; may be called from several threads at once
+     * @return The matching user on the lowest page, if any
+     */
+    public Optional<User> findFirst(Predicate<User> predicate) {
+        UserPage firstPage = fetchPage(1);
+        Optional<User> match = firstMatch(firstPage, predicate);
+        if (match.isPresent() || firstPage.totalPages() <= 1) {
+            return match;
+        }
+
+        int totalPages = firstPage.totalPages();
+        // Matches by page index; the earliest matching page bounds which pages are still worth fetching
+        AtomicReferenceArray<User> matches = new AtomicReferenceArray<>(totalPages + 1);
+        AtomicInteger earliestMatchPage = new AtomicInteger(Integer.MAX_VALUE);
+        crawl(2, totalPages, earliestMatchPage, page -> firstMatch(page, predicate).ifPresent(user -> {
+            matches.set(page.page(), user);
+            earliestMatchPage.accumulateAndGet(page.page(), Math::min);
+        }));
+
+        int earliest = earliestMatchPage.get();
+        return earliest == Integer.MAX_VALUE ? Optional.empty() : Optional.of(matches.get(earliest));
+    }
+
+    /**
+     * Pass every user on every page to a consumer
+     * @param consumer Receives each user; called from several threads at once, so it must be thread-safe
+     */
+    public void forEachUser(Consumer<User> consumer) {
+        UserPage firstPage = fetchPage(1);
+        firstPage.data().forEach(consumer);
+        crawl(2, firstPage.totalPages(), new AtomicInteger(Integer.MAX_VALUE), page -> page.data().forEach(consumer));
+    }
+
+    /**
+     * Fetch pages first..last with bounded concurrency, skipping pages after stopAfterPage
+     */
+    private void crawl(int first, int last, AtomicInteger stopAfterPage, Consumer<UserPage> pageHandler) {
+        if (first > last) {
+            return;
+        }
+        AtomicInteger nextPage = new AtomicInteger(first);
+        int workers = Math.min(maxConcurrency, last - first + 1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    int page;
+                    while ((page = nextPage.getAndIncrement()) <= last && page < stopAfterPage.get()) {
+                        pageHandler.accept(fetchPage(page));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        }
+    }
+
+    private UserPage fetchPage(int page) {
+        Response response = given()
+                .spec(spec)
+                .queryParam("page", page)
+                .queryParam("per_page", perPage)
+                .when()
+                .get("/users");
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /users page " + page + " returned status " + response.statusCode());
+        }
+        return UserResponses.userPage(response);
+    }
+
+    private static Optional<User> firstMatch(UserPage page, Predicate<User> predicate) {
+        for (User user : page.data()) {
+            if (predicate.test(user)) {
+                return Optional.of(user);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while crawling user pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to crawl user pages", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.reqres.util.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.json.JSONObject;
+
+import com.reqres.util.api.model.CreatedUser;
+import com.reqres.util.data.TestDataManager;
+
+/**
+ * Creates users in bulk through {@link AsyncUserClient} with a bounded number of requests in flight.
+ * A failed create is recorded and the batch carries on; created IDs are stored in a
+ * {@link TestDataManager} under {@link TestDataManager#createdUserIdKey(int)} in payload order.
+ */
+public final class UserProvisioner {
+
+    /**
+     * Default number of create requests in flight at once; against the local server throughput is bound by CPU
+     * well before this, e.g. 10k users in about 9 s on one CPU with 8 or 64 in flight
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    private final AsyncUserClient client;
+    private final int maxInFlight;
+
+    /**
+     * Outcome of a provisioning batch
+     * @param requested Number of payloads submitted
+     * @param createdIds IDs of the created users, in payload order, without the failed ones
+     * @param failures Error message per failed payload, keyed by its zero-based position
+     * @param elapsed Time taken by the whole batch
+     */
+    public record ProvisioningResult(int requested, List<String> createdIds, SortedMap<Integer, String> failures,
+                                     Duration elapsed) {
+
+        /**
+         * Check whether every payload was created
+         * @return true if nothing failed
+         */
+        public boolean isComplete() {
+            return failures.isEmpty();
+        }
+    }
+
+    /**
+     * Constructor for UserProvisioner
+     * @param client Client used to create the users; not closed by the provisioner
+     * @param maxInFlight Maximum number of create requests in flight at once
+     */
+    public UserProvisioner(AsyncUserClient client, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one request must be allowed in flight");
+        }
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Create a user for every payload and store the created IDs.
+     * Blocks until every request has completed; failures are reported in the result, not thrown.
+     * @param payloads User payloads, e.g. TestDataFactory.generateUsers(seed, count); consumed lazily
+     * @param dataManager Store receiving the IDs under createdUserIdKey(0..n-1) and their count
+     *                    under KEY_CREATED_USER_COUNT
+     * @return The outcome of the batch
+     */
+    public ProvisioningResult provision(Iterator<JSONObject> payloads, TestDataManager dataManager) {
+        return provision(payloads, client::createUser, dataManager);
+    }
+
+    /**
+     * Create a user for every encoded body and store the created IDs, like {@link #provision(Iterator, TestDataManager)}.
+     * Bodies go to the API as they are, so no JSONObject or String is built per user.
+     * @param bodies UTF-8 JSON bodies, e.g. TestDataFactory.generateUserBodies(seed, count); consumed lazily
+     * @param dataManager Store receiving the IDs under createdUserIdKey(0..n-1) and their count
+     *                    under KEY_CREATED_USER_COUNT
+     * @return The outcome of the batch
+     */
+    public ProvisioningResult provisionBodies(Iterator<byte[]> bodies, TestDataManager dataManager) {
+        return provision(bodies, client::createUser, dataManager);
+    }
+
+    private <T> ProvisioningResult provision(Iterator<T> payloads, Function<T, CompletableFuture<CreatedUser>> create,
+                                             TestDataManager dataManager) {
+        long start = System.nanoTime();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Map<Integer, String> created = new ConcurrentHashMap<>();
+        Map<Integer, String> failed = new ConcurrentHashMap<>();
+
+        int submitted = 0;
+        while (payloads.hasNext()) {
+            T payload = payloads.next();
+            int index = submitted++;
+            inFlight.acquireUninterruptibly();
+            try {
+                create.apply(payload).whenComplete((user, error) -> {
+                    try {
+                        if (error != null) {
+                            failed.put(index, describe(error));
+                        } else {
+                            created.put(index, user.id());
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                failed.put(index, describe(e));
+                inFlight.release();
+            }
+        }
+        // Every permit is back once the last request has completed
+        inFlight.acquireUninterruptibly(maxInFlight);
+        inFlight.release(maxInFlight);
+
+        List<String> createdIds = new ArrayList<>(created.size());
+        for (int index = 0; index < submitted; index++) {
+            String id = created.get(index);
+            if (id != null) {
+                dataManager.storeData(TestDataManager.createdUserIdKey(createdIds.size()), id);
+                createdIds.add(id);
+            }
+        }
+        dataManager.storeData(TestDataManager.KEY_CREATED_USER_COUNT, createdIds.size());
+
+        ProvisioningResult result = new ProvisioningResult(submitted, Collections.unmodifiableList(createdIds),
+                Collections.unmodifiableSortedMap(new TreeMap<>(failed)), Duration.ofNanos(System.nanoTime() - start));
+        System.out.println("Provisioned " + createdIds.size() + " of " + submitted + " users in "
+                + result.elapsed().toMillis() + " ms" + (failed.isEmpty() ? "" : ", " + failed.size() + " failed"));
+        return result;
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,26 @@
+package com.reqres.util.api.model;
+
+import org.json.JSONObject;
+
+/**
+ * Response of POST /users
+ * @param id ID assigned to the new user
+ * @param name Name that was sent
+ * @param job Job that was sent
+ * @param createdAt Creation timestamp
+ */
+public record CreatedUser(String id, String name, String job, String createdAt) {
+    
+    /**
+     * Bind a parsed create response
+     * @param json Response object
+     * @return The created user
+     */
+    static CreatedUser from(JSONObject json) {
+        return new CreatedUser(
+                json.has("id") ? String.valueOf(json.get("id")) : null,
+                json.optString("name", null),
+                json.optString("job", null),
+                json.optString("createdAt", null));
+    }
+}
@@ -0,0 +1,24 @@
+package com.reqres.util.api.model;
+
+import org.json.JSONObject;
+
+/**
+ * Response of PUT /users/{id}
+ * @param name Name that was sent
+ * @param job Job that was sent
+ * @param updatedAt Update timestamp
+ */
+public record UpdatedUser(String name, String job, String updatedAt) {
+    
+    /**
+     * Bind a parsed update response
+     * @param json Response object
+     * @return The updated user
+     */
+    static UpdatedUser from(JSONObject json) {
+        return new UpdatedUser(
+                json.optString("name", null),
+                json.optString("job", null),
+                json.optString("updatedAt", null));
+    }
+}
@@ -0,0 +1,28 @@
+package com.reqres.util.api.model;
+
+import org.json.JSONObject;
+
+/**
+ * A user as returned in the data of GET /users and GET /users/{id}
+ * @param id User ID
+ * @param email Email address
+ * @param firstName First name
+ * @param lastName Last name
+ * @param avatar Avatar image URL
+ */
+public record User(int id, String email, String firstName, String lastName, String avatar) {
+    
+    /**
+     * Bind a parsed user object
+     * @param json User object from a response
+     * @return The user
+     */
+    static User from(JSONObject json) {
+        return new User(
+                json.getInt("id"),
+                json.getString("email"),
+                json.getString("first_name"),
+                json.getString("last_name"),
+                json.optString("avatar", null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.reqres.util.api.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A page of users as returned by GET /users
+ * @param page Page number
+ * @param perPage Requested page size
+ * @param total Total number of users
+ * @param totalPages Total number of pages
+ * @param data Users on this page
+ */
+public record UserPage(int page, int perPage, int total, int totalPages, List<User> data) {
+    
+    /**
+     * Find the first user on this page with an email address
+     * @param email Email address to look for
+     * @return The user, if present on this page
+     */
+    public Optional<User> findByEmail(String email) {
+        for (User user : data) {
+            if (user.email().equals(email)) {
+                return Optional.of(user);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Get the IDs of all users on this page with an email address
+     * @param email Email address to look for
+     * @return Matching user IDs, in page order
+     */
+    public List<Integer> idsByEmail(String email) {
+        List<Integer> ids = new ArrayList<>(1);
+        for (User user : data) {
+            if (user.email().equals(email)) {
+                ids.add(user.id());
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Bind a parsed page object
+     * @param json Page object from a response
+     * @return The page
+     */
+    static UserPage from(JSONObject json) {
+        JSONArray users = json.getJSONArray("data");
+        List<User> data = new ArrayList<>(users.length());
+        for (int i = 0; i < users.length(); i++) {
+            data.add(User.from(users.getJSONObject(i)));
+        }
+        return new UserPage(
+                json.getInt("page"),
+                json.getInt("per_page"),
+                json.getInt("total"),
+                json.getInt("total_pages"),
+                Collections.unmodifiableList(data));
+    }
+}
@@ -0,0 +1,114 @@
+package com.reqres.util.api.model;
+
+import java.util.function.Function;
+
+import org.json.JSONObject;
+
+import io.restassured.response.Response;
+
+/**
+ * Typed extraction of /users responses.
+ * Each extractor parses the body once and binds it to a record; fields are then read through the
+ * record accessors, with no JsonPath or Groovy evaluation. Extractors are stateless and can be shared.
+ */
+public final class UserResponses {
+    
+    /**
+     * Extracts the page of GET /users
+     */
+    public static final Function<Response, UserPage> USER_PAGE = response -> userPage(response.asString());
+    
+    /**
+     * Extracts the user of GET /users/{id}
+     */
+    public static final Function<Response, User> SINGLE_USER = response -> singleUser(response.asString());
+    
+    /**
+     * Extracts the response of POST /users
+     */
+    public static final Function<Response, CreatedUser> CREATED_USER = response -> createdUser(response.asString());
+    
+    /**
+     * Extracts the response of PUT /users/{id}
+     */
+    public static final Function<Response, UpdatedUser> UPDATED_USER = response -> updatedUser(response.asString());
+    
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private UserResponses() {
+        throw new AssertionError("Utility class - should not be instantiated");
+    }
+    
+    /**
+     * Bind a GET /users response
+     * @param response The response
+     * @return The page of users
+     */
+    public static UserPage userPage(Response response) {
+        return USER_PAGE.apply(response);
+    }
+    
+    /**
+     * Bind a GET /users/{id} response
+     * @param response The response
+     * @return The user
+     */
+    public static User singleUser(Response response) {
+        return SINGLE_USER.apply(response);
+    }
+    
+    /**
+     * Bind a POST /users response
+     * @param response The response
+     * @return The created user
+     */
+    public static CreatedUser createdUser(Response response) {
+        return CREATED_USER.apply(response);
+    }
+    
+    /**
+     * Bind a PUT /users/{id} response
+     * @param response The response
+     * @return The updated user
+     */
+    public static UpdatedUser updatedUser(Response response) {
+        return UPDATED_USER.apply(response);
+    }
+    
+    /**
+     * Bind a GET /users response body
+     * @param body JSON body
+     * @return The page of users
+     */
+    public static UserPage userPage(String body) {
+        return UserPage.from(new JSONObject(body));
+    }
+    
+    /**
+     * Bind a GET /users/{id} response body
+     * @param body JSON body
+     * @return The user
+     */
+    public static User singleUser(String body) {
+        return User.from(new JSONObject(body).getJSONObject("data"));
+    }
+    
+    /**
+     * Bind a POST /users response body
+     * @param body JSON body
+     * @return The created user
+     */
+    public static CreatedUser createdUser(String body) {
+        return CreatedUser.from(new JSONObject(body));
+    }
+    
+    /**
+     * Bind a PUT /users/{id} response body
+     * @param body JSON body
+     * @return The updated user
+     */
+    public static UpdatedUser updatedUser(String body) {
+        return UpdatedUser.from(new JSONObject(body));
+    }
+}
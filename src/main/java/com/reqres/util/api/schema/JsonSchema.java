@@ -0,0 +1,170 @@
+package com.reqres.util.api.schema;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A compiled JSON schema node, immutable and safe to share between threads.
+ * Supports the draft-07 subset the /users schemas use: type, properties, required,
+ * additionalProperties (boolean), items, minimum, maximum, minLength, minItems, maxItems,
+ * format (email, uri, date-time) and $ref to another schema file. Any other keyword is rejected
+ * when compiling, so a schema never silently validates less than it says.
+ */
+public final class JsonSchema {
+
+    // Bit per JSON type in the types mask
+    static final int OBJECT = 1;
+    static final int ARRAY = 1 << 1;
+    static final int STRING = 1 << 2;
+    static final int NUMBER = 1 << 3;
+    static final int INTEGER = 1 << 4;
+    static final int BOOLEAN = 1 << 5;
+    static final int NULL = 1 << 6;
+    static final int ANY = OBJECT | ARRAY | STRING | NUMBER | INTEGER | BOOLEAN | NULL;
+
+    // Keywords that only document the schema
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "title", "description", "examples");
+    private static final Set<String> FORMATS = Set.of("email", "uri", "date-time");
+    // Required properties are tracked in a long bitmask while an object is read
+    private static final int MAX_PROPERTIES = 64;
+
+    final int types;
+    // Parallel arrays; a handful of properties is faster to scan than to hash, and needs no key String
+    final String[] propertyNames;
+    final JsonSchema[] propertySchemas;
+    final long requiredMask;
+    final boolean additionalProperties;
+    final JsonSchema items;
+    final Double minimum;
+    final Double maximum;
+    final int minLength;
+    final int minItems;
+    final int maxItems;
+    final String format;
+
+    private JsonSchema(JSONObject schema, Function<String, JsonSchema> references) {
+        for (String keyword : schema.keySet()) {
+            if (!ANNOTATIONS.contains(keyword) && !isSupported(keyword)) {
+                throw new IllegalArgumentException("Unsupported schema keyword: " + keyword);
+            }
+        }
+        this.types = types(schema.opt("type"));
+
+        JSONObject properties = schema.optJSONObject("properties");
+        int count = properties == null ? 0 : properties.length();
+        if (count > MAX_PROPERTIES) {
+            throw new IllegalArgumentException("At most " + MAX_PROPERTIES + " properties are supported, got " + count);
+        }
+        this.propertyNames = properties == null ? new String[0] : properties.keySet().toArray(new String[0]);
+        this.propertySchemas = new JsonSchema[count];
+        for (int i = 0; i < count; i++) {
+            propertySchemas[i] = compile(properties.getJSONObject(propertyNames[i]), references);
+        }
+
+        long required = 0;
+        JSONArray requiredNames = schema.optJSONArray("required");
+        if (requiredNames != null) {
+            for (int i = 0; i < requiredNames.length(); i++) {
+                int index = List.of(propertyNames).indexOf(requiredNames.getString(i));
+                if (index < 0) {
+                    throw new IllegalArgumentException("Required property '" + requiredNames.getString(i) + "' is not declared in properties");
+                }
+                required |= 1L << index;
+            }
+        }
+        this.requiredMask = required;
+
+        Object additional = schema.opt("additionalProperties");
+        if (additional != null && !(additional instanceof Boolean)) {
+            throw new IllegalArgumentException("Only a boolean additionalProperties is supported");
+        }
+        this.additionalProperties = additional == null || (Boolean) additional;
+        this.items = schema.has("items") ? compile(schema.getJSONObject("items"), references) : null;
+        this.minimum = schema.has("minimum") ? schema.getDouble("minimum") : null;
+        this.maximum = schema.has("maximum") ? schema.getDouble("maximum") : null;
+        this.minLength = schema.optInt("minLength", 0);
+        this.minItems = schema.optInt("minItems", 0);
+        this.maxItems = schema.optInt("maxItems", Integer.MAX_VALUE);
+        this.format = schema.optString("format", null);
+        if (format != null && !FORMATS.contains(format)) {
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    /**
+     * Compile a schema
+     * @param schema Parsed schema document
+     * @param references Resolves the target of a $ref, e.g. "user.json", to its compiled schema
+     * @return The compiled schema
+     */
+    static JsonSchema compile(JSONObject schema, Function<String, JsonSchema> references) {
+        if (schema.has("$ref")) {
+            if (schema.length() != 1) {
+                throw new IllegalArgumentException("$ref cannot be combined with other keywords");
+            }
+            return references.apply(schema.getString("$ref"));
+        }
+        return new JsonSchema(schema, references);
+    }
+
+    /**
+     * Check whether the string value has to be kept to check it, rather than only counted
+     */
+    boolean needsStringValue() {
+        return format != null;
+    }
+
+    /**
+     * Check whether the number has to be parsed to check it
+     */
+    boolean needsNumberValue() {
+        return minimum != null || maximum != null;
+    }
+
+    static String typeNames(int types) {
+        StringBuilder names = new StringBuilder();
+        String[] all = {"object", "array", "string", "number", "integer", "boolean", "null"};
+        for (int i = 0; i < all.length; i++) {
+            if ((types & (1 << i)) != 0) {
+                names.append(names.length() == 0 ? "" : " or ").append(all[i]);
+            }
+        }
+        return names.toString();
+    }
+
+    private static boolean isSupported(String keyword) {
+        return switch (keyword) {
+            case "type", "properties", "required", "additionalProperties", "items", "minimum", "maximum",
+                    "minLength", "minItems", "maxItems", "format" -> true;
+            default -> false;
+        };
+    }
+
+    private static int types(Object type) {
+        if (type == null) {
+            return ANY;
+        }
+        if (type instanceof JSONArray array) {
+            int mask = 0;
+            for (int i = 0; i < array.length(); i++) {
+                mask |= types(array.getString(i));
+            }
+            return mask;
+        }
+        return switch (type.toString()) {
+            case "object" -> OBJECT;
+            case "array" -> ARRAY;
+            case "string" -> STRING;
+            // Every integer is also a number
+            case "number" -> NUMBER | INTEGER;
+            case "integer" -> INTEGER;
+            case "boolean" -> BOOLEAN;
+            case "null" -> NULL;
+            default -> throw new IllegalArgumentException("Unknown schema type: " + type);
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.reqres.util.api.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.json.JSONObject;
+
+/**
+ * Loads JSON schemas from the classpath directory "schemas/", compiles each once and caches it
+ * for the rest of the run, and validates documents against them in a single streaming pass.
+ */
+public final class JsonSchemas {
+
+    private static final String SCHEMA_DIRECTORY = "schemas/";
+
+    private static final Map<String, JsonSchema> COMPILED = new ConcurrentHashMap<>();
+    // Schemas being compiled by the current call, to detect $ref cycles
+    private static final Set<String> COMPILING = new HashSet<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private JsonSchemas() {
+        throw new AssertionError("JsonSchemas is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Get a compiled schema, compiling it on first use
+     * @param name File name under schemas/, e.g. "user-page.json"
+     * @return The compiled schema
+     */
+    public static JsonSchema get(String name) {
+        JsonSchema schema = COMPILED.get(name);
+        return schema != null ? schema : compile(name);
+    }
+
+    /**
+     * Validate a document
+     * @param name Schema file name
+     * @param json The document
+     * @return Violations, empty if the document is valid
+     */
+    public static List<String> validate(String name, Reader json) {
+        return new StreamingSchemaValidator(json).validate(get(name));
+    }
+
+    /**
+     * Validate a UTF-8 document while it is read, e.g. Response.asInputStream()
+     * @param name Schema file name
+     * @param json The document
+     * @return Violations, empty if the document is valid
+     */
+    public static List<String> validate(String name, InputStream json) {
+        return validate(name, new InputStreamReader(json, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hamcrest matcher for response bodies, e.g. for ResponseSpecBuilder.expectBody
+     * @param name Schema file name
+     * @return Matcher accepting bodies that match the schema
+     */
+    public static Matcher<String> matchesSchema(String name) {
+        get(name);
+        return new TypeSafeMatcher<>() {
+            @Override
+            protected boolean matchesSafely(String body) {
+                return validate(name, new StringReader(body)).isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a JSON body matching schema ").appendValue(name);
+            }
+
+            @Override
+            protected void describeMismatchSafely(String body, Description description) {
+                description.appendText("violations:");
+                validate(name, new StringReader(body)).forEach(violation -> description.appendText("\n  " + violation));
+            }
+        };
+    }
+
+    private static synchronized JsonSchema compile(String name) {
+        JsonSchema schema = COMPILED.get(name);
+        if (schema != null) {
+            return schema;
+        }
+        if (!COMPILING.add(name)) {
+            throw new IllegalStateException("Cyclic $ref to schema " + name);
+        }
+        try {
+            // $ref targets are compiled through the same cache, so shared parts are compiled once
+            schema = JsonSchema.compile(load(name), JsonSchemas::get);
+            COMPILED.put(name, schema);
+            return schema;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid schema " + name + ": " + e.getMessage(), e);
+        } finally {
+            COMPILING.remove(name);
+        }
+    }
+
+    private static JSONObject load(String name) {
+        try (InputStream stream = JsonSchemas.class.getClassLoader().getResourceAsStream(SCHEMA_DIRECTORY + name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Schema not found on the classpath: " + SCHEMA_DIRECTORY + name);
+            }
+            return new JSONObject(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read schema " + name, e);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.reqres.util.api.schema;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Validates a JSON document against a {@link JsonSchema} in a single pass over its characters.
+ * The document is read in chunks and checked while it is parsed; no tree of its values is built,
+ * so the cost grows with the size of the body but the memory does not. Property names are matched
+ * in place and string values are kept only when a format has to be checked.
+ * Not thread-safe; create one per validation.
+ */
+final class StreamingSchemaValidator {
+
+    /**
+     * Validation stops collecting after this many violations
+     */
+    static final int MAX_VIOLATIONS = 20;
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final Pattern URI = Pattern.compile("[a-zA-Z][a-zA-Z0-9+.-]*:\\S+");
+
+    private final Reader reader;
+    private final char[] chunk = new char[8192];
+    private int chunkLength;
+    private int chunkPosition;
+    private long offset;
+
+    // JSON pointer of the value being read; only turned into a String when reporting a violation
+    private final StringBuilder path = new StringBuilder();
+    // Reused for property names, and for strings and numbers that need their value checked
+    private final StringBuilder token = new StringBuilder();
+    private final List<String> violations = new ArrayList<>();
+
+    /**
+     * Signals malformed JSON; the rest of the document cannot be read
+     */
+    private static final class MalformedJsonException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        MalformedJsonException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    StreamingSchemaValidator(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the whole document and check it against the schema
+     * @param schema Schema of the root value
+     * @return Violations, empty if the document is valid; at most MAX_VIOLATIONS
+     */
+    List<String> validate(JsonSchema schema) {
+        try {
+            value(schema);
+            skipWhitespace();
+            if (peek() != -1) {
+                throw malformed("unexpected content after the root value");
+            }
+        } catch (MalformedJsonException e) {
+            violations.add(e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON document", e);
+        }
+        return violations;
+    }
+
+    private void value(JsonSchema schema) throws IOException, MalformedJsonException {
+        skipWhitespace();
+        int c = peek();
+        switch (c) {
+            case '{' -> object(schema);
+            case '[' -> array(schema);
+            case '"' -> string(schema);
+            case 't' -> literal("true", schema, JsonSchema.BOOLEAN);
+            case 'f' -> literal("false", schema, JsonSchema.BOOLEAN);
+            case 'n' -> literal("null", schema, JsonSchema.NULL);
+            case -1 -> throw malformed("unexpected end of document");
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    number(schema);
+                } else {
+                    throw malformed("unexpected character '" + (char) c + "'");
+                }
+            }
+        }
+    }
+
+    private void object(JsonSchema schema) throws IOException, MalformedJsonException {
+        checkType(schema, JsonSchema.OBJECT);
+        next();
+        long seen = 0;
+        skipWhitespace();
+        if (peek() == '}') {
+            next();
+        } else {
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                readString(token, true);
+                skipWhitespace();
+                expect(':');
+
+                int pathLength = path.length();
+                path.append('/').append(token);
+                JsonSchema propertySchema = null;
+                if (schema != null) {
+                    int index = propertyIndex(schema, token);
+                    if (index >= 0) {
+                        seen |= 1L << index;
+                        propertySchema = schema.propertySchemas[index];
+                    } else if (!schema.additionalProperties) {
+                        violation("is not an allowed property");
+                    }
+                }
+                value(propertySchema);
+                path.setLength(pathLength);
+
+                skipWhitespace();
+                int c = next();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw malformed("expected ',' or '}' in object");
+                }
+            }
+        }
+
+        if (schema != null) {
+            long missing = schema.requiredMask & ~seen;
+            for (int i = 0; missing != 0; i++, missing >>>= 1) {
+                if ((missing & 1) != 0) {
+                    violation("is missing required property '" + schema.propertyNames[i] + "'");
+                }
+            }
+        }
+    }
+
+    private void array(JsonSchema schema) throws IOException, MalformedJsonException {
+        checkType(schema, JsonSchema.ARRAY);
+        next();
+        JsonSchema itemSchema = schema == null ? null : schema.items;
+        int count = 0;
+        skipWhitespace();
+        if (peek() == ']') {
+            next();
+        } else {
+            while (true) {
+                int pathLength = path.length();
+                path.append('/').append(count++);
+                value(itemSchema);
+                path.setLength(pathLength);
+
+                skipWhitespace();
+                int c = next();
+                if (c == ']') {
+                    break;
+                }
+                if (c != ',') {
+                    throw malformed("expected ',' or ']' in array");
+                }
+            }
+        }
+        if (schema != null && count < schema.minItems) {
+            violation("has " + count + " items, expected at least " + schema.minItems);
+        }
+        if (schema != null && count > schema.maxItems) {
+            violation("has " + count + " items, expected at most " + schema.maxItems);
+        }
+    }
+
+    private void string(JsonSchema schema) throws IOException, MalformedJsonException {
+        checkType(schema, JsonSchema.STRING);
+        next();
+        boolean keep = schema != null && schema.needsStringValue();
+        int length = readString(token, keep);
+        if (schema == null) {
+            return;
+        }
+        if (length < schema.minLength) {
+            violation("is " + length + " characters long, expected at least " + schema.minLength);
+        }
+        if (keep && !matchesFormat(schema.format, token)) {
+            violation("is not a valid " + schema.format + ": \"" + token + "\"");
+        }
+    }
+
+    /**
+     * Read a number following the JSON grammar: -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?
+     */
+    private void number(JsonSchema schema) throws IOException, MalformedJsonException {
+        token.setLength(0);
+        if (peek() == '-') {
+            token.append((char) next());
+        }
+        if (peek() == '0') {
+            token.append((char) next());
+        } else if (!digits()) {
+            throw malformed("invalid number, expected a digit");
+        }
+        boolean plainInteger = true;
+        if (peek() == '.') {
+            plainInteger = false;
+            token.append((char) next());
+            if (!digits()) {
+                throw malformed("invalid number, expected a digit after '.'");
+            }
+        }
+        if (peek() == 'e' || peek() == 'E') {
+            plainInteger = false;
+            token.append((char) next());
+            if (peek() == '+' || peek() == '-') {
+                token.append((char) next());
+            }
+            if (!digits()) {
+                throw malformed("invalid number, expected a digit in the exponent");
+            }
+        }
+        // Anything that can continue a number here means the number was malformed, e.g. "01" or "1-2"
+        int c = peek();
+        if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+            throw malformed("invalid number '" + token + (char) c + "'");
+        }
+
+        // As in draft-07, a number with a zero fractional part such as 1.0 or 1e2 is an integer
+        boolean integer = plainInteger || isIntegral(token);
+        checkType(schema, integer ? JsonSchema.INTEGER : JsonSchema.NUMBER);
+        if (schema == null || !schema.needsNumberValue()) {
+            return;
+        }
+        double number = Double.parseDouble(token.toString());
+        if (schema.minimum != null && number < schema.minimum) {
+            violation("is " + token + ", expected at least " + schema.minimum);
+        }
+        if (schema.maximum != null && number > schema.maximum) {
+            violation("is " + token + ", expected at most " + schema.maximum);
+        }
+    }
+
+    /**
+     * Append a run of digits to the token
+     * @return Whether there was at least one digit
+     */
+    private boolean digits() throws IOException {
+        int start = token.length();
+        int c = peek();
+        while (c >= '0' && c <= '9') {
+            token.append((char) next());
+            c = peek();
+        }
+        return token.length() > start;
+    }
+
+    private static boolean isIntegral(CharSequence number) {
+        try {
+            BigDecimal value = new BigDecimal(number.toString());
+            return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+        } catch (NumberFormatException e) {
+            // Exponent beyond the int range: a huge number is integral, a tiny one is not
+            return number.toString().matches("[^eE]*[eE]\\+?[0-9]+");
+        }
+    }
+
+    private void literal(String literal, JsonSchema schema, int type) throws IOException, MalformedJsonException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw malformed("invalid literal, expected " + literal);
+            }
+        }
+        checkType(schema, type);
+    }
+
+    /**
+     * Read the rest of a string after its opening quote, resolving escapes
+     * @param into Receives the value when keep is true; cleared either way
+     * @param keep Whether to keep the value or only count it
+     * @return Length of the value in characters
+     */
+    private int readString(StringBuilder into, boolean keep) throws IOException, MalformedJsonException {
+        into.setLength(0);
+        int length = 0;
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return length;
+            }
+            if (c == -1 || c < 0x20) {
+                throw malformed(c == -1 ? "unterminated string" : "unescaped control character in string");
+            }
+            if (c == '\\') {
+                c = switch (next()) {
+                    case '"' -> '"';
+                    case '\\' -> '\\';
+                    case '/' -> '/';
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 't' -> '\t';
+                    case 'u' -> unicodeEscape();
+                    default -> throw malformed("invalid escape in string");
+                };
+            }
+            if (keep) {
+                into.append((char) c);
+            }
+            length++;
+        }
+    }
+
+    private int unicodeEscape() throws IOException, MalformedJsonException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw malformed("invalid \\u escape in string");
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private void checkType(JsonSchema schema, int type) {
+        if (schema != null && (schema.types & type) == 0) {
+            violation("is " + JsonSchema.typeNames(type) + ", expected " + JsonSchema.typeNames(schema.types));
+        }
+    }
+
+    private static int propertyIndex(JsonSchema schema, CharSequence name) {
+        for (int i = 0; i < schema.propertyNames.length; i++) {
+            if (schema.propertyNames[i].contentEquals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesFormat(String format, CharSequence value) {
+        return switch (format) {
+            case "email" -> EMAIL.matcher(value).matches();
+            case "uri" -> URI.matcher(value).matches();
+            case "date-time" -> isDateTime(value);
+            default -> true;
+        };
+    }
+
+    private static boolean isDateTime(CharSequence value) {
+        try {
+            OffsetDateTime.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private void violation(String message) {
+        if (violations.size() < MAX_VIOLATIONS) {
+            violations.add((path.length() == 0 ? "/" : path.toString()) + " " + message);
+        }
+    }
+
+    private MalformedJsonException malformed(String message) {
+        return new MalformedJsonException("Malformed JSON at character " + offset + ": " + message);
+    }
+
+    private void expect(char expected) throws IOException, MalformedJsonException {
+        if (next() != expected) {
+            throw malformed("expected '" + expected + "'");
+        }
+    }
+
+    private void skipWhitespace() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            next();
+            c = peek();
+        }
+    }
+
+    private int peek() throws IOException {
+        if (chunkPosition == chunkLength && !fill()) {
+            return -1;
+        }
+        return chunk[chunkPosition];
+    }
+
+    private int next() throws IOException {
+        if (chunkPosition == chunkLength && !fill()) {
+            return -1;
+        }
+        offset++;
+        return chunk[chunkPosition++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(chunk, 0, chunk.length);
+        while (read == 0) {
+            read = reader.read(chunk, 0, chunk.length);
+        }
+        chunkLength = Math.max(read, 0);
+        chunkPosition = 0;
+        return read > 0;
+    }
+}
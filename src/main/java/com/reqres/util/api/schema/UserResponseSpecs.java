@@ -0,0 +1,63 @@
+package com.reqres.util.api.schema;
+
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.specification.ResponseSpecification;
+
+/**
+ * Reusable response specifications for the /users endpoints: expected status code plus a
+ * schema check of the whole body, e.g. {@code .then().spec(UserResponseSpecs.userPage())}.
+ * Schemas are compiled when this class loads and the specifications are shared; do not modify them.
+ */
+public final class UserResponseSpecs {
+
+    private static final ResponseSpecification USER_PAGE = spec(200, "user-page.json");
+    private static final ResponseSpecification SINGLE_USER = spec(200, "single-user.json");
+    private static final ResponseSpecification CREATED_USER = spec(201, "created-user.json");
+    private static final ResponseSpecification UPDATED_USER = spec(200, "updated-user.json");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private UserResponseSpecs() {
+        throw new AssertionError("UserResponseSpecs is a utility class and should not be instantiated");
+    }
+
+    /**
+     * GET /users returns 200 and a page of users
+     * @return Shared response specification
+     */
+    public static ResponseSpecification userPage() {
+        return USER_PAGE;
+    }
+
+    /**
+     * GET /users/{id} returns 200 and a single user
+     * @return Shared response specification
+     */
+    public static ResponseSpecification singleUser() {
+        return SINGLE_USER;
+    }
+
+    /**
+     * POST /users returns 201 and the created user
+     * @return Shared response specification
+     */
+    public static ResponseSpecification createdUser() {
+        return CREATED_USER;
+    }
+
+    /**
+     * PUT /users/{id} returns 200 and the updated user
+     * @return Shared response specification
+     */
+    public static ResponseSpecification updatedUser() {
+        return UPDATED_USER;
+    }
+
+    private static ResponseSpecification spec(int statusCode, String schema) {
+        return new ResponseSpecBuilder()
+                .expectStatusCode(statusCode)
+                .expectBody(JsonSchemas.matchesSchema(schema))
+                .build();
+    }
+}
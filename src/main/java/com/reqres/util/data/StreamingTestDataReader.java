@@ -0,0 +1,226 @@
+package com.reqres.util.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import com.reqres.util.data.TestDataLoader.TestDataRuntimeException;
+
+/**
+ * Streaming reader for large test data files.
+ * Scans the file once and only builds the value that was asked for; every other section is skipped
+ * without being materialized, and arrays can be walked one record at a time.
+ */
+public final class StreamingTestDataReader {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private StreamingTestDataReader() {
+        throw new AssertionError("StreamingTestDataReader is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Read a single top-level section of a test data file
+     * @param resource Classpath resource of the file, e.g. "/testdata/testdata.json"
+     * @param section The section name (e.g., "users", "pagination")
+     * @return JSONObject for the requested section
+     */
+    public static JSONObject readSection(String resource, String section) {
+        try (Reader reader = open(resource)) {
+            JSONTokener tokener = new JSONTokener(reader);
+            Object value = seek(tokener, resource, section);
+            if (!(value instanceof JSONObject)) {
+                throw new TestDataRuntimeException("Section '" + section + "' in " + resource + " is not an object");
+            }
+            return (JSONObject) value;
+        } catch (IOException e) {
+            throw new TestDataRuntimeException("Failed to read test data file " + resource, e);
+        } catch (JSONException e) {
+            throw new TestDataRuntimeException("Malformed test data file " + resource, e);
+        }
+    }
+
+    /**
+     * Stream the elements of an array nested in a test data file, parsing one element at a time.
+     * The returned stream holds the file open and must be closed, e.g. with try-with-resources.
+     * @param resource Classpath resource of the file
+     * @param path Keys leading from the top-level object to the array, e.g. "users", "records"
+     * @return Lazily parsed array elements (JSONObject, JSONArray, String, Number, Boolean or JSONObject.NULL)
+     */
+    public static Stream<Object> streamArray(String resource, String... path) {
+        Reader reader = open(resource);
+        try {
+            JSONTokener tokener = new JSONTokener(reader);
+            for (String key : path) {
+                enterObjectKey(tokener, resource, key);
+            }
+            if (tokener.nextClean() != '[') {
+                throw new TestDataRuntimeException("Value at " + String.join(".", path) + " in " + resource + " is not an array");
+            }
+            Iterator<Object> elements = new ArrayElementIterator(tokener, resource);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> closeReader(reader));
+        } catch (RuntimeException e) {
+            closeReader(reader);
+            throw e instanceof JSONException
+                    ? new TestDataRuntimeException("Malformed test data file " + resource, e)
+                    : e;
+        }
+    }
+
+    private static Reader open(String resource) {
+        InputStream is = StreamingTestDataReader.class.getResourceAsStream(resource);
+        if (is == null) {
+            throw new TestDataRuntimeException("Test data file not found: " + resource);
+        }
+        return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse the value stored under a key of the top-level object, skipping all other values
+     */
+    private static Object seek(JSONTokener tokener, String resource, String key) {
+        enterObjectKey(tokener, resource, key);
+        return tokener.nextValue();
+    }
+
+    /**
+     * Advance the tokener to just before the value stored under a key of the object that starts next
+     */
+    private static void enterObjectKey(JSONTokener tokener, String resource, String key) {
+        if (tokener.nextClean() != '{') {
+            throw new TestDataRuntimeException("Expected an object around '" + key + "' in " + resource);
+        }
+        char c = tokener.nextClean();
+        while (c != '}') {
+            if (c != '"' && c != '\'') {
+                throw tokener.syntaxError("Expected a key");
+            }
+            String name = tokener.nextString(c);
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected ':' after key '" + name + "'");
+            }
+            if (name.equals(key)) {
+                return;
+            }
+            skipValue(tokener);
+            c = tokener.nextClean();
+            if (c == ',') {
+                c = tokener.nextClean();
+            } else if (c != '}') {
+                throw tokener.syntaxError("Expected ',' or '}'");
+            }
+        }
+        throw new TestDataRuntimeException("Section '" + key + "' not found in test data");
+    }
+
+    /**
+     * Consume the next value without building it
+     */
+    private static void skipValue(JSONTokener tokener) {
+        char c = tokener.nextClean();
+        switch (c) {
+            case '"', '\'' -> tokener.nextString(c);
+            case '{', '[' -> skipContainer(tokener);
+            default -> {
+                while (c != 0 && ",}]".indexOf(c) < 0 && !Character.isWhitespace(c)) {
+                    c = tokener.next();
+                }
+                tokener.back();
+            }
+        }
+    }
+
+    private static void skipContainer(JSONTokener tokener) {
+        int depth = 1;
+        while (depth > 0) {
+            char c = tokener.next();
+            switch (c) {
+                case 0 -> throw tokener.syntaxError("Unterminated object or array");
+                case '"', '\'' -> tokener.nextString(c);
+                case '{', '[' -> depth++;
+                case '}', ']' -> depth--;
+                default -> {
+                    // Scalars and separators inside a skipped container need no handling
+                }
+            }
+        }
+    }
+
+    private static void closeReader(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Iterates the elements of an array whose opening bracket has already been consumed
+     */
+    private static final class ArrayElementIterator implements Iterator<Object> {
+
+        private final JSONTokener tokener;
+        private final String resource;
+        private boolean first = true;
+        private boolean ready;
+        private boolean finished;
+
+        ArrayElementIterator(JSONTokener tokener, String resource) {
+            this.tokener = tokener;
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready || finished) {
+                return ready;
+            }
+            try {
+                char c = tokener.nextClean();
+                if (c == ']') {
+                    finished = true;
+                    return false;
+                }
+                if (first) {
+                    tokener.back();
+                } else if (c != ',') {
+                    throw tokener.syntaxError("Expected ',' or ']'");
+                }
+                first = false;
+                ready = true;
+                return true;
+            } catch (JSONException e) {
+                throw new TestDataRuntimeException("Malformed test data file " + resource, e);
+            }
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            try {
+                return tokener.nextValue();
+            } catch (JSONException e) {
+                throw new TestDataRuntimeException("Malformed test data file " + resource, e);
+            }
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.reqres.util.data;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
 import org.json.JSONObject;
 
 /**
  * Factory class to generate test data for API requests
  */
 public class TestDataFactory {
+    
+    // Building blocks for generated users
+    private static final String[] FIRST_NAMES = {
+            "Alex", "Blake", "Casey", "Dana", "Emery", "Finley", "Harper", "Jordan", "Morgan", "Quinn", "Riley", "Taylor"
+    };
+    private static final String[] LAST_NAMES = {
+            "Bluth", "Weaver", "Wong", "Holt", "Morris", "Ramos", "Lawson", "Ferguson", "Funke", "Fields", "Edwards", "Howell"
+    };
+    private static final String[] JOBS = {
+            "Software Tester", "QA Engineer", "Developer", "Product Owner", "Designer", "Support Engineer", "Data Analyst"
+    };
 
     // Private constructor to prevent instantiation
     private TestDataFactory() {
@@ -50,4 +65,95 @@ public class TestDataFactory {
     public static JSONObject getUpdatedUserData() {
         return updateUserData("John Updated", "Senior Software Tester");
     }
-}
\ No newline at end of file
+    
+    /**
+     * Generate the name of the user at a position in a seeded sequence.
+     * The result depends only on seed and index, so any position can be generated independently and in any thread.
+     * @param seed Seed of the sequence
+     * @param index Position in the sequence; distinct indexes give distinct names
+     * @return Generated user name
+     */
+    public static String generateName(long seed, long index) {
+        long bits = mix(seed, index);
+        return FIRST_NAMES[(int) Long.remainderUnsigned(bits, FIRST_NAMES.length)] + " "
+                + LAST_NAMES[(int) Long.remainderUnsigned(bits >>> 16, LAST_NAMES.length)] + " " + index;
+    }
+    
+    /**
+     * Generate the job of the user at a position in a seeded sequence
+     * @param seed Seed of the sequence
+     * @param index Position in the sequence
+     * @return Generated job title
+     */
+    public static String generateJob(long seed, long index) {
+        return JOBS[(int) Long.remainderUnsigned(mix(seed, index) >>> 32, JOBS.length)];
+    }
+    
+    /**
+     * Generate the user data at a position in a seeded sequence
+     * @param seed Seed of the sequence
+     * @param index Position in the sequence
+     * @return JSONObject with generated user data
+     */
+    public static JSONObject generateUserData(long seed, long index) {
+        return createUserData(generateName(seed, index), generateJob(seed, index));
+    }
+    
+    /**
+     * Lazily generate a sequence of unique users; each user is created only when requested,
+     * so the iterator itself holds no per-user state
+     * @param seed Seed of the sequence
+     * @param count Number of users to generate
+     * @return Iterator over the generated user data
+     */
+    public static Iterator<JSONObject> generateUsers(long seed, long count) {
+        return generate(count, index -> generateUserData(seed, index));
+    }
+    
+    /**
+     * Lazily generate the same users as {@link #generateUsers(long, long)} as encoded request bodies.
+     * Each body is written by {@link UserPayloadEncoder}, without a JSONObject or String per user.
+     * @param seed Seed of the sequence
+     * @param count Number of users to generate
+     * @return Iterator over UTF-8 JSON bodies
+     */
+    public static Iterator<byte[]> generateUserBodies(long seed, long count) {
+        return generate(count, index -> UserPayloadEncoder.userBody(generateName(seed, index), generateJob(seed, index)));
+    }
+    
+    /**
+     * Lazily map the positions 0 to count - 1 of a sequence to values, e.g. data provider rows of generated users
+     * @param count Number of values
+     * @param generator Creates the value at a position, when it is requested
+     * @param <T> Type of the values
+     * @return Iterator over the generated values
+     */
+    public static <T> Iterator<T> generate(long count, LongFunction<T> generator) {
+        return new Iterator<>() {
+            private long next;
+            
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+            
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generator.apply(next++);
+            }
+        };
+    }
+    
+    /**
+     * SplitMix64 finalizer over seed and index, giving well-distributed bits for each position
+     */
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
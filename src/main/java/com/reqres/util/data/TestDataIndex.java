@@ -0,0 +1,274 @@
+package com.reqres.util.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.reqres.util.data.TestDataLoader.TestDataRuntimeException;
+
+/**
+ * Precompiled binary index of a JSON test data file.
+ * The index is produced at build time by {@link TestDataIndexCompiler}; at runtime it is memory-mapped and
+ * each section is decoded straight from its binary form, so no JSON text is parsed.
+ *
+ * <p>Layout: magic, version, section count, a directory of (name, offset, length) entries, then one
+ * encoded value per section. Values are a type tag followed by the payload; objects and arrays carry
+ * their element count.
+ */
+public final class TestDataIndex {
+
+    /**
+     * File extension of compiled indexes, replacing ".json"
+     */
+    public static final String EXTENSION = ".idx";
+
+    private static final int MAGIC = 0x52515444; // "RQTD"
+    private static final int VERSION = 1;
+
+    private static final byte TYPE_OBJECT = 1;
+    private static final byte TYPE_ARRAY = 2;
+    private static final byte TYPE_STRING = 3;
+    private static final byte TYPE_INT = 4;
+    private static final byte TYPE_LONG = 5;
+    private static final byte TYPE_DOUBLE = 6;
+    private static final byte TYPE_DECIMAL = 7;
+    private static final byte TYPE_INTEGER = 8;
+    private static final byte TYPE_TRUE = 9;
+    private static final byte TYPE_FALSE = 10;
+    private static final byte TYPE_NULL = 11;
+
+    private final ByteBuffer buffer;
+    private final Map<String, int[]> directory;
+
+    private TestDataIndex(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new TestDataRuntimeException("Unsupported test data index format");
+        }
+        int sections = header.getInt();
+        Map<String, int[]> entries = new HashMap<>();
+        for (int i = 0; i < sections; i++) {
+            String name = readString(header);
+            entries.put(name, new int[] {header.getInt(), header.getInt()});
+        }
+        this.directory = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Open the compiled index for a JSON test data resource, memory-mapping it when it is a plain file
+     * @param jsonResource Classpath resource of the JSON file, e.g. "/testdata/testdata.json"
+     * @return The index, or null if no index was compiled for the resource
+     */
+    public static TestDataIndex open(String jsonResource) {
+        String indexResource = indexResourceFor(jsonResource);
+        URL url = TestDataIndex.class.getResource(indexResource);
+        if (url == null) {
+            return null;
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                    return new TestDataIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            }
+            try (InputStream is = url.openStream()) {
+                return new TestDataIndex(ByteBuffer.wrap(is.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new TestDataRuntimeException("Failed to open test data index " + indexResource, e);
+        }
+    }
+
+    /**
+     * Get the names of all indexed sections
+     * @return Section names
+     */
+    public Set<String> getSections() {
+        return directory.keySet();
+    }
+
+    /**
+     * Check whether a section is indexed
+     * @param section The section name
+     * @return true if the section exists
+     */
+    public boolean hasSection(String section) {
+        return directory.containsKey(section);
+    }
+
+    /**
+     * Decode a section into a JSONObject
+     * @param section The section name (e.g., "users", "pagination")
+     * @return JSONObject for the requested section
+     */
+    public JSONObject readSection(String section) {
+        int[] entry = directory.get(section);
+        if (entry == null) {
+            throw new TestDataRuntimeException("Section '" + section + "' not found in test data");
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(entry[0]);
+        Object value = readValue(slice);
+        if (!(value instanceof JSONObject)) {
+            throw new TestDataRuntimeException("Section '" + section + "' is not an object");
+        }
+        return (JSONObject) value;
+    }
+
+    /**
+     * Compile a parsed test data document into the binary index format
+     * @param document Top-level object of the test data file
+     * @return The encoded index
+     */
+    public static byte[] compile(JSONObject document) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            Map<String, int[]> entries = new LinkedHashMap<>();
+            for (String name : document.keySet()) {
+                int offset = bodyOut.size();
+                writeValue(bodyOut, document.get(name));
+                entries.put(name, new int[] {offset, bodyOut.size() - offset});
+            }
+            bodyOut.flush();
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            DataOutputStream headerOut = new DataOutputStream(header);
+            headerOut.writeInt(MAGIC);
+            headerOut.writeInt(VERSION);
+            headerOut.writeInt(entries.size());
+            int headerSize = 12;
+            for (String name : entries.keySet()) {
+                headerSize += 4 + name.getBytes(StandardCharsets.UTF_8).length + 8;
+            }
+            for (Map.Entry<String, int[]> entry : entries.entrySet()) {
+                writeString(headerOut, entry.getKey());
+                headerOut.writeInt(headerSize + entry.getValue()[0]);
+                headerOut.writeInt(entry.getValue()[1]);
+            }
+            headerOut.flush();
+
+            body.writeTo(header);
+            return header.toByteArray();
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new TestDataRuntimeException("Failed to compile test data index", e);
+        }
+    }
+
+    /**
+     * Get the classpath resource name of the index for a JSON resource
+     * @param jsonResource Classpath resource of the JSON file
+     * @return Index resource name
+     */
+    public static String indexResourceFor(String jsonResource) {
+        return (jsonResource.endsWith(".json")
+                ? jsonResource.substring(0, jsonResource.length() - ".json".length())
+                : jsonResource) + EXTENSION;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof JSONObject object) {
+            out.writeByte(TYPE_OBJECT);
+            out.writeInt(object.length());
+            for (String key : object.keySet()) {
+                writeString(out, key);
+                writeValue(out, object.get(key));
+            }
+        } else if (value instanceof JSONArray array) {
+            out.writeByte(TYPE_ARRAY);
+            out.writeInt(array.length());
+            for (int i = 0; i < array.length(); i++) {
+                writeValue(out, array.get(i));
+            }
+        } else if (value instanceof String text) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, text);
+        } else if (value instanceof Integer number) {
+            out.writeByte(TYPE_INT);
+            out.writeInt(number);
+        } else if (value instanceof Long number) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(number);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger number) {
+            out.writeByte(TYPE_INTEGER);
+            writeString(out, number.toString());
+        } else if (value instanceof Number number) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, number.toString());
+        } else if (value instanceof Boolean flag) {
+            out.writeByte(flag ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value == null || JSONObject.NULL.equals(value)) {
+            out.writeByte(TYPE_NULL);
+        } else {
+            throw new TestDataRuntimeException("Unsupported test data value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        byte type = in.get();
+        return switch (type) {
+            case TYPE_OBJECT -> {
+                int size = in.getInt();
+                JSONObject object = new JSONObject();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    object.put(key, readValue(in));
+                }
+                yield object;
+            }
+            case TYPE_ARRAY -> {
+                int size = in.getInt();
+                JSONArray array = new JSONArray();
+                for (int i = 0; i < size; i++) {
+                    array.put(readValue(in));
+                }
+                yield array;
+            }
+            case TYPE_STRING -> readString(in);
+            case TYPE_INT -> in.getInt();
+            case TYPE_LONG -> in.getLong();
+            case TYPE_DOUBLE -> in.getDouble();
+            case TYPE_DECIMAL -> new BigDecimal(readString(in));
+            case TYPE_INTEGER -> new BigInteger(readString(in));
+            case TYPE_TRUE -> Boolean.TRUE;
+            case TYPE_FALSE -> Boolean.FALSE;
+            case TYPE_NULL -> JSONObject.NULL;
+            default -> throw new TestDataRuntimeException("Corrupt test data index: unknown value type " + type);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
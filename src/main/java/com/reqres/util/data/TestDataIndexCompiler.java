@@ -0,0 +1,52 @@
+package com.reqres.util.data;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.json.JSONObject;
+
+/**
+ * Build-time compiler that turns every JSON fixture in a directory into a {@link TestDataIndex} file.
+ * Run by the compileTestDataIndex Gradle task; the output directory is added to the test classpath.
+ */
+public final class TestDataIndexCompiler {
+    
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private TestDataIndexCompiler() {
+        throw new AssertionError("TestDataIndexCompiler is a utility class and should not be instantiated");
+    }
+    
+    /**
+     * Compile the fixtures
+     * @param args Source directory of JSON fixtures and target directory for the indexes
+     * @throws IOException If a fixture cannot be read or an index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TestDataIndexCompiler <fixture dir> <index dir>");
+        }
+        Path sourceDir = Path.of(args[0]);
+        Path targetDir = Path.of(args[1]);
+        
+        List<Path> fixtures;
+        try (Stream<Path> files = Files.list(sourceDir)) {
+            fixtures = files.filter(file -> file.getFileName().toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+        
+        Files.createDirectories(targetDir);
+        for (Path fixture : fixtures) {
+            JSONObject document = new JSONObject(Files.readString(fixture, StandardCharsets.UTF_8));
+            String indexName = TestDataIndex.indexResourceFor(fixture.getFileName().toString());
+            byte[] index = TestDataIndex.compile(document);
+            Files.write(targetDir.resolve(indexName), index);
+            System.out.println("Compiled " + fixture + " -> " + indexName + " (" + index.length + " bytes)");
+        }
+    }
+}
@@ -3,22 +3,26 @@ package com.reqres.util.data;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.json.JSONObject;
 
+import com.reqres.perf.TestDataLoadEvent;
+
 /**
- * Utility class for loading test data from external files
+ * Utility class for loading test data from external files.
+ * Loading and caching are thread-safe, so the loader can be shared by parallel test methods.
  */
 public final class TestDataLoader {
     
     private static final String TEST_DATA_FILE = "/testdata/testdata.json";
-    private static JSONObject testData;
+    private static volatile JSONObject testData;
     
     // Cache for parsed test data sections
-    private static final Map<String, JSONObject> dataCache = new HashMap<>();
+    private static final Map<String, JSONObject> dataCache = new ConcurrentHashMap<>();
     
     /**
      * Private constructor to prevent instantiation of this utility class
@@ -46,37 +50,85 @@ public final class TestDataLoader {
      * @return JSONObject containing the test data
      */
     public static JSONObject loadTestData() {
-        if (testData == null) {
-            try (InputStream is = TestDataLoader.class.getResourceAsStream(TEST_DATA_FILE)) {
-                if (is == null) {
-                    throw new TestDataRuntimeException("Test data file not found: " + TEST_DATA_FILE);
-                }
-                try (Scanner scanner = new Scanner(is, StandardCharsets.UTF_8.name())) {
-                    String jsonString = scanner.useDelimiter("\\A").next();
-                    testData = new JSONObject(jsonString);
+        TestDataLoadEvent event = new TestDataLoadEvent();
+        event.begin();
+        String source = TestDataLoadEvent.CACHE;
+        JSONObject data = testData;
+        if (data == null) {
+            synchronized (TestDataLoader.class) {
+                data = testData;
+                if (data == null) {
+                    data = readTestDataFile();
+                    testData = data;
+                    source = "file";
                 }
-            } catch (IOException e) {
-                throw new TestDataRuntimeException("Failed to load test data file", e);
             }
         }
-        return testData;
+        event.complete("loadTestData", null, source);
+        return data;
     }
     
     /**
-     * Get a specific section from the test data file
+     * Read and parse the test data file
+     * @return JSONObject containing the test data
+     */
+    private static JSONObject readTestDataFile() {
+        try (InputStream is = TestDataLoader.class.getResourceAsStream(TEST_DATA_FILE)) {
+            if (is == null) {
+                throw new TestDataRuntimeException("Test data file not found: " + TEST_DATA_FILE);
+            }
+            try (Scanner scanner = new Scanner(is, StandardCharsets.UTF_8.name())) {
+                String jsonString = scanner.useDelimiter("\\A").next();
+                return new JSONObject(jsonString);
+            }
+        } catch (IOException e) {
+            throw new TestDataRuntimeException("Failed to load test data file", e);
+        }
+    }
+    
+    /**
+     * Get a specific section from the test data file.
+     * If the whole file has not been loaded, the section is decoded from the build-time binary index,
+     * or, when no index was compiled, parsed on its own from a streaming scan.
      * @param section The section name (e.g., "users", "authentication")
      * @return JSONObject for the requested section
      */
     public static JSONObject getSection(String section) {
-        if (!dataCache.containsKey(section)) {
-            JSONObject data = loadTestData();
-            if (data.has(section)) {
-                dataCache.put(section, data.getJSONObject(section));
-            } else {
-                throw new TestDataRuntimeException("Section '" + section + "' not found in test data");
-            }
+        TestDataLoadEvent event = new TestDataLoadEvent();
+        event.begin();
+        JSONObject cached = dataCache.get(section);
+        if (cached != null) {
+            event.complete("getSection", section, TestDataLoadEvent.CACHE);
+            return cached;
         }
-        return dataCache.get(section);
+        String[] source = {TestDataLoadEvent.CACHE};
+        JSONObject loaded = dataCache.computeIfAbsent(section, name -> {
+            JSONObject data = testData;
+            if (data == null) {
+                TestDataIndex index = IndexHolder.INDEX;
+                source[0] = index != null ? "index" : "stream";
+                return index != null
+                        ? index.readSection(name)
+                        : StreamingTestDataReader.readSection(TEST_DATA_FILE, name);
+            }
+            if (!data.has(name)) {
+                throw new TestDataRuntimeException("Section '" + name + "' not found in test data");
+            }
+            source[0] = "document";
+            return data.getJSONObject(name);
+        });
+        event.complete("getSection", section, source[0]);
+        return loaded;
+    }
+    
+    /**
+     * Stream the records of a (possibly very large) array in the test data file one at a time.
+     * The stream holds the file open and must be closed, e.g. with try-with-resources.
+     * @param path Keys leading to the array, e.g. "users", "records"
+     * @return Lazily parsed array elements
+     */
+    public static Stream<Object> streamRecords(String... path) {
+        return StreamingTestDataReader.streamArray(TEST_DATA_FILE, path);
     }
     
     /**
@@ -95,10 +147,17 @@ public final class TestDataLoader {
         return getSection("pagination");
     }
     
+    /**
+     * Holds the memory-mapped index, opened once on first use; null when no index was compiled
+     */
+    private static final class IndexHolder {
+        private static final TestDataIndex INDEX = TestDataIndex.open(TEST_DATA_FILE);
+    }
+    
     /**
      * Clear the test data cache
      */
-    public static void clearCache() {
+    public static synchronized void clearCache() {
         dataCache.clear();
         testData = null;
     }
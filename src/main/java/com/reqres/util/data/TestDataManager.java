@@ -1,16 +1,21 @@
 package com.reqres.util.data;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Class for managing test data in the ReqRes API tests
+ * Class for managing test data in the ReqRes API tests.
+ * Safe for use from parallel test methods; each dependency chain should store its
+ * data in its own {@link #scope(String) scope} so keys from one chain never leak into another.
  */
 public class TestDataManager {
     
     // Store for test data that needs to be shared between test methods
     private final Map<String, Object> sharedData;
     
+    // Child stores, one per dependency chain
+    private final Map<String, TestDataManager> scopes;
+    
     // Default test data values
     private static final String DEFAULT_EMAIL = "charles.morris@reqres.in";
     private static final int DEFAULT_PAGE = 1;
@@ -20,16 +25,30 @@ public class TestDataManager {
      * Constructor for TestDataManager
      */
     public TestDataManager() {
-        sharedData = new HashMap<>();
+        sharedData = new ConcurrentHashMap<>();
+        scopes = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Get the isolated store for a dependency chain, creating it on first use
+     * @param scopeName Name of the dependency chain
+     * @return TestDataManager holding only that chain's data
+     */
+    public TestDataManager scope(String scopeName) {
+        return scopes.computeIfAbsent(scopeName, name -> new TestDataManager());
     }
     
     /**
      * Store data to be shared between test methods
      * @param key The key to store the data under
-     * @param value The value to store
+     * @param value The value to store, or null to remove the key
      */
     public void storeData(String key, Object value) {
-        sharedData.put(key, value);
+        if (value == null) {
+            sharedData.remove(key);
+        } else {
+            sharedData.put(key, value);
+        }
     }
     
     /**
@@ -43,10 +62,21 @@ public class TestDataManager {
     }
     
     /**
-     * Clear all stored data
+     * Clear all stored data, including every scope
      */
     public void clearData() {
         sharedData.clear();
+        scopes.values().forEach(TestDataManager::clearData);
+        scopes.clear();
+    }
+    
+    /**
+     * Get the key of the Nth bulk-created user ID, e.g. "createdUserId.0"
+     * @param index Zero-based position in the batch
+     * @return Indexed key
+     */
+    public static String createdUserIdKey(int index) {
+        return KEY_CREATED_USER_ID + "." + index;
     }
     
     /**
@@ -79,4 +109,6 @@ public class TestDataManager {
     public static final String KEY_USER_FIRST_NAME = "userFirstName";
     public static final String KEY_USER_LAST_NAME = "userLastName";
     public static final String KEY_CREATED_USER_ID = "createdUserId";
+    // Number of bulk-created users stored under createdUserIdKey(0..count-1)
+    public static final String KEY_CREATED_USER_COUNT = "createdUserCount";
 }
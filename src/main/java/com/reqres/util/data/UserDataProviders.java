@@ -0,0 +1,182 @@
+package com.reqres.util.data;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+
+/**
+ * TestNG data providers that stream generated users from TestDataFactory.
+ * The users are split into batches of {@code data.users.batch.size}; TestNG pulls one batch at a time from a lazy,
+ * non-parallel provider, and the test runs the users of its batch on a bounded number of worker threads. Only the
+ * users being sent and one test result per batch are held, so memory stays flat however large the count is.
+ * The count and seed are read from the {@code data.users.count} and {@code data.users.seed} system properties.
+ */
+public final class UserDataProviders {
+    
+    /**
+     * Provider of {@link UserBatch} rows covering every generated user
+     */
+    public static final String GENERATED_USER_BATCHES = "generatedUserBatches";
+    
+    // IDs 1..12 are the users seeded by ReqRes
+    private static final int SEEDED_USER_COUNT = 12;
+    private static final long DEFAULT_COUNT = 10;
+    private static final long DEFAULT_SEED = 42;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    // Failure messages kept per batch; the rest are only counted
+    private static final int MAX_REPORTED_FAILURES = 10;
+    
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private UserDataProviders() {
+        throw new AssertionError("UserDataProviders is a utility class and should not be instantiated");
+    }
+    
+    /**
+     * A generated user
+     * @param index Position in the seeded sequence
+     * @param name Generated name, unique per index
+     * @param job Generated job
+     */
+    public record GeneratedUser(long index, String name, String job) {
+    
+        /**
+         * Get the seeded ReqRes user this generated user is applied to in update tests
+         * @return User ID between 1 and 12
+         */
+        public int seededUserId() {
+            return (int) (index % SEEDED_USER_COUNT) + 1;
+        }
+    }
+    
+    /**
+     * A contiguous slice of the generated users, handed to one test invocation
+     * @param seed Seed of the sequence
+     * @param first Index of the first user
+     * @param size Number of users
+     * @param workers Number of threads that run the users of the batch
+     */
+    public record UserBatch(long seed, long first, int size, int workers) {
+    
+        /**
+         * Lazily generate the users of the batch
+         * @return Iterator over the users, each created when requested
+         */
+        public Iterator<GeneratedUser> users() {
+            return TestDataFactory.generate(size, offset -> generatedUser(seed, first + offset));
+        }
+        
+        /**
+         * Run an action for every user of the batch on the batch's worker threads.
+         * Every user is run even if some fail; the failures are then reported together.
+         * @param action Action for one user, failing by throwing, e.g. an AssertionError
+         * @throws AssertionError If the action failed for any user
+         */
+        public void forEachUser(Consumer<GeneratedUser> action) {
+            Iterator<GeneratedUser> users = users();
+            AtomicInteger failureCount = new AtomicInteger();
+            List<String> failures = new ArrayList<>();
+            
+            Runnable worker = () -> {
+                while (true) {
+                    GeneratedUser user;
+                    synchronized (users) {
+                        if (!users.hasNext()) {
+                            return;
+                        }
+                        user = users.next();
+                    }
+                    try {
+                        action.accept(user);
+                    } catch (AssertionError | RuntimeException e) {
+                        if (failureCount.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                            synchronized (failures) {
+                                failures.add("user " + user.index() + " (" + user.name() + "): " + e.getMessage());
+                            }
+                        }
+                    }
+                }
+            };
+            
+            // Threads are created by this thread, so they inherit its Allure test context
+            int threads = Math.max(1, Math.min(workers, size));
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> running = new ArrayList<>(threads);
+                for (int i = 0; i < threads; i++) {
+                    running.add(executor.submit(worker));
+                }
+                for (Future<?> future : running) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running " + this, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Worker of " + this + " failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+            
+            if (failureCount.get() > 0) {
+                throw new AssertionError(failureCount.get() + " of " + size + " " + this + " failed:\n  "
+                        + String.join("\n  ", failures));
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return "users " + first + "-" + (first + size - 1);
+        }
+    }
+    
+    /**
+     * Generated users in batches, for create and update tests.
+     * The provider is not parallel so TestNG pulls the batches one at a time instead of collecting them first;
+     * the parallelism is inside each batch, with the suite's data provider thread count as the number of workers.
+     * @param context Context of the running test
+     * @return Lazy iterator of {UserBatch} rows
+     */
+    @DataProvider(name = GENERATED_USER_BATCHES)
+    public static Iterator<Object[]> generatedUserBatches(ITestContext context) {
+        long count = count();
+        long seed = seed();
+        int batchSize = Math.max(1, Integer.getInteger("data.users.batch.size", DEFAULT_BATCH_SIZE));
+        int workers = context.getSuite().getXmlSuite().getDataProviderThreadCount();
+        return TestDataFactory.generate((count + batchSize - 1) / batchSize, batch -> {
+            long first = batch * batchSize;
+            return new Object[] {new UserBatch(seed, first, (int) Math.min(batchSize, count - first), workers)};
+        });
+    }
+    
+    /**
+     * Lazily generate every user of the configured count and seed, for tests that drive the users themselves
+     * @return Iterator over the users, each created when requested
+     */
+    public static Iterator<GeneratedUser> generatedUsers() {
+        long seed = seed();
+        return TestDataFactory.generate(count(), index -> generatedUser(seed, index));
+    }
+    
+    private static GeneratedUser generatedUser(long seed, long index) {
+        return new GeneratedUser(index, TestDataFactory.generateName(seed, index), TestDataFactory.generateJob(seed, index));
+    }
+    
+    private static long count() {
+        return Long.getLong("data.users.count", DEFAULT_COUNT);
+    }
+    
+    private static long seed() {
+        return Long.getLong("data.users.seed", DEFAULT_SEED);
+    }
+}
@@ -0,0 +1,154 @@
+package com.reqres.util.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes create and update user bodies, {"name":"...","job":"..."}, straight into UTF-8 bytes.
+ * The fixed parts of the body are encoded once; name and job are escaped and written into a buffer
+ * that is reused from request to request, so no JSONObject, StringBuilder or String is built per body.
+ * The result parses to the same object as {@link TestDataFactory#createUserData(String, String)}.
+ * An encoder is not thread-safe; use {@link #forCurrentThread()} or {@link #userBody(String, String)}.
+ */
+public final class UserPayloadEncoder {
+
+    private static final byte[] NAME_PREFIX = "{\"name\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JOB_PREFIX = "\",\"job\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<UserPayloadEncoder> PER_THREAD = ThreadLocal.withInitial(UserPayloadEncoder::new);
+
+    private byte[] buffer = new byte[128];
+    private int length;
+
+    /**
+     * Get the encoder of the calling thread
+     * @return Encoder reused by every call from this thread
+     */
+    public static UserPayloadEncoder forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Encode a user body into a new array of exactly its size, e.g. for RequestSpecification.body(byte[]).
+     * The array is the only allocation; it is safe to keep while the request is in flight.
+     * @param name User name
+     * @param job User job
+     * @return UTF-8 JSON body
+     */
+    public static byte[] userBody(String name, String job) {
+        return forCurrentThread().encode(name, job).toByteArray();
+    }
+
+    /**
+     * Encode a user body into this encoder's buffer, replacing the previous body
+     * @param name User name
+     * @param job User job
+     * @return This encoder, holding the body in {@link #buffer()} up to {@link #length()}
+     */
+    public UserPayloadEncoder encode(String name, String job) {
+        length = 0;
+        write(NAME_PREFIX);
+        writeEscaped(name);
+        write(JOB_PREFIX);
+        writeEscaped(job);
+        write(SUFFIX);
+        return this;
+    }
+
+    /**
+     * Get the buffer holding the last encoded body; only the first {@link #length()} bytes are valid
+     * and they are overwritten by the next call to encode
+     * @return Internal buffer, not a copy
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * Get the size of the last encoded body
+     * @return Number of valid bytes in the buffer
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Copy the last encoded body
+     * @return New array holding exactly the body
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    /**
+     * Write a string as the inside of a JSON string literal, in UTF-8.
+     * Quotes, backslashes and control characters are escaped. Unpaired surrogates cannot be encoded in UTF-8, so
+     * they are written as \\uXXXX escapes, which parse back to the same char.
+     */
+    private void writeEscaped(String value) {
+        // At most 6 bytes per char (\\u00XX); reserving up front keeps the loop free of bounds checks
+        ensureCapacity(value.length() * 6);
+        byte[] out = buffer;
+        int position = length;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                out[position++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                out[position++] = '\\';
+                out[position++] = (byte) c;
+            } else if (c < 0x20) {
+                out[position++] = '\\';
+                switch (c) {
+                    case '\b' -> out[position++] = 'b';
+                    case '\f' -> out[position++] = 'f';
+                    case '\n' -> out[position++] = 'n';
+                    case '\r' -> out[position++] = 'r';
+                    case '\t' -> out[position++] = 't';
+                    default -> {
+                        out[position++] = 'u';
+                        out[position++] = '0';
+                        out[position++] = '0';
+                        out[position++] = HEX[c >> 4];
+                        out[position++] = HEX[c & 0xF];
+                    }
+                }
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out[position++] = '\\';
+                out[position++] = 'u';
+                out[position++] = HEX[c >> 12];
+                out[position++] = HEX[(c >> 8) & 0xF];
+                out[position++] = HEX[(c >> 4) & 0xF];
+                out[position++] = HEX[c & 0xF];
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        length = position;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.reqres.util.schedule;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+import org.testng.annotations.Test;
+
+/**
+ * Dependency graph of the test methods of one class, built from dependsOnMethods and dependsOnGroups.
+ * Priorities are ignored: they only order methods, they do not make one need another.
+ * Dependencies on methods of other classes are outside the graph and left to TestNG.
+ */
+public final class DependencyGraph {
+
+    private final String className;
+    // Method name to the names of the methods it waits for, sorted for a stable plan
+    private final Map<String, Set<String>> prerequisites;
+
+    private DependencyGraph(String className, Map<String, Set<String>> prerequisites) {
+        this.className = className;
+        this.prerequisites = prerequisites;
+    }
+
+    /**
+     * Build the graph of a test class
+     * @param testClass Test class
+     * @param selected Method names to consider, or an empty set for every test method
+     * @return The graph of the selected methods
+     * @throws IllegalStateException if the dependencies form a cycle
+     */
+    public static DependencyGraph of(Class<?> testClass, Set<String> selected) {
+        Test classTest = testClass.getAnnotation(Test.class);
+        Map<String, Test> tests = new TreeMap<>();
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test != null && (selected.isEmpty() || selected.contains(method.getName()))) {
+                tests.putIfAbsent(method.getName(), test);
+            }
+        }
+
+        Map<String, Set<String>> prerequisites = new TreeMap<>();
+        for (Map.Entry<String, Test> entry : tests.entrySet()) {
+            Test test = entry.getValue();
+            Set<String> required = new TreeSet<>();
+            for (String dependency : merged(test.dependsOnMethods(), classTest == null ? null : classTest.dependsOnMethods())) {
+                // TestNG accepts regular expressions as well as fully qualified names in dependsOnMethods
+                String pattern = dependency.contains("*") ? dependency : dependency.substring(dependency.lastIndexOf('.') + 1);
+                tests.keySet().stream().filter(candidate -> candidate.matches(pattern)).forEach(required::add);
+            }
+            for (String group : merged(test.dependsOnGroups(), classTest == null ? null : classTest.dependsOnGroups())) {
+                tests.forEach((candidate, candidateTest) -> {
+                    if (merged(candidateTest.groups(), classTest == null ? null : classTest.groups()).stream()
+                            .anyMatch(candidateGroup -> candidateGroup.matches(group))) {
+                        required.add(candidate);
+                    }
+                });
+            }
+            required.remove(entry.getKey());
+            prerequisites.put(entry.getKey(), Collections.unmodifiableSet(required));
+        }
+
+        DependencyGraph graph = new DependencyGraph(testClass.getName(), prerequisites);
+        graph.topologicalOrder();
+        return graph;
+    }
+
+    /**
+     * Get the class the graph was built from
+     * @return Fully qualified class name
+     */
+    public String className() {
+        return className;
+    }
+
+    /**
+     * Get every method of the graph
+     * @return Method names, sorted
+     */
+    public Set<String> methods() {
+        return Collections.unmodifiableSet(prerequisites.keySet());
+    }
+
+    /**
+     * Get the methods a method waits for
+     * @param method Method name
+     * @return Names of its direct prerequisites, empty for a method that can start right away
+     */
+    public Set<String> prerequisites(String method) {
+        return prerequisites.getOrDefault(method, Set.of());
+    }
+
+    /**
+     * Get the longest chain of methods, i.e. the shortest time the class can take with unlimited threads
+     * @param durationMillis Expected duration of each method
+     * @return Methods of the critical path, first to last
+     */
+    public List<String> criticalPath(ToLongFunction<String> durationMillis) {
+        Map<String, Long> finish = new HashMap<>();
+        Map<String, String> slowestPrerequisite = new HashMap<>();
+        String last = null;
+        for (String method : topologicalOrder()) {
+            long start = 0;
+            String slowest = null;
+            for (String prerequisite : prerequisites(method)) {
+                if (slowest == null || finish.get(prerequisite) > start) {
+                    start = finish.get(prerequisite);
+                    slowest = prerequisite;
+                }
+            }
+            if (slowest != null) {
+                slowestPrerequisite.put(method, slowest);
+            }
+            finish.put(method, start + durationMillis.applyAsLong(method));
+            if (last == null || finish.get(method) > finish.get(last)) {
+                last = method;
+            }
+        }
+
+        Deque<String> path = new ArrayDeque<>();
+        for (String method = last; method != null; method = slowestPrerequisite.get(method)) {
+            path.addFirst(method);
+        }
+        return new ArrayList<>(path);
+    }
+
+    /**
+     * Get the most methods running at once when every method starts as soon as its prerequisites finish
+     * @param durationMillis Expected duration of each method
+     * @return Number of threads needed to reach the critical path
+     */
+    public int peakConcurrency(ToLongFunction<String> durationMillis) {
+        Map<String, Long> finish = new HashMap<>();
+        // +1 at each start, -1 at each finish; a finish sorts before a start at the same instant
+        Map<Long, Integer> changes = new TreeMap<>();
+        for (String method : topologicalOrder()) {
+            long start = 0;
+            for (String prerequisite : prerequisites(method)) {
+                start = Math.max(start, finish.get(prerequisite));
+            }
+            long end = start + Math.max(1, durationMillis.applyAsLong(method));
+            finish.put(method, end);
+            changes.merge(start * 2 + 1, 1, Integer::sum);
+            changes.merge(end * 2, -1, Integer::sum);
+        }
+        int running = 0;
+        int peak = 0;
+        for (int change : changes.values()) {
+            running += change;
+            peak = Math.max(peak, running);
+        }
+        return peak;
+    }
+
+    private List<String> topologicalOrder() {
+        Map<String, Integer> waitingOn = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (Map.Entry<String, Set<String>> entry : prerequisites.entrySet()) {
+            waitingOn.put(entry.getKey(), entry.getValue().size());
+            entry.getValue().forEach(prerequisite ->
+                    dependents.computeIfAbsent(prerequisite, key -> new ArrayList<>()).add(entry.getKey()));
+            if (entry.getValue().isEmpty()) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        List<String> order = new ArrayList<>(prerequisites.size());
+        while (!ready.isEmpty()) {
+            String method = ready.poll();
+            order.add(method);
+            for (String dependent : dependents.getOrDefault(method, List.of())) {
+                if (waitingOn.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (order.size() != prerequisites.size()) {
+            Set<String> cyclic = new LinkedHashSet<>(prerequisites.keySet());
+            order.forEach(cyclic::remove);
+            throw new IllegalStateException("Cyclic test dependencies in " + className + ": " + cyclic);
+        }
+        return order;
+    }
+
+    private static List<String> merged(String[] own, String[] inherited) {
+        List<String> all = new ArrayList<>(Arrays.asList(own));
+        if (inherited != null) {
+            all.addAll(Arrays.asList(inherited));
+        }
+        return all;
+    }
+}
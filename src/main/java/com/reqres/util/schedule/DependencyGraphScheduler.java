@@ -0,0 +1,93 @@
+package com.reqres.util.schedule;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.reqres.config.TestConfig;
+import com.reqres.util.shard.TestDurations;
+
+/**
+ * Runs test methods in the order of their dependency graph instead of their priorities.
+ * TestNG's parallel="methods" already starts a method as soon as the methods it depends on have
+ * finished, but priorities make independent methods queue behind each other. This listener drops the
+ * priorities, so only dependsOnMethods and dependsOnGroups order the run, and makes sure there are
+ * enough threads for every independent chain; suite time then approaches the critical path.
+ * The classes of one {@code <test>} share its thread pool, so their peaks add up; tests run one after another.
+ * Chains hand data over through their own {@link com.reqres.util.data.TestDataManager} scope.
+ * Register it in parallel suites only; a sequential suite keeps running one method at a time.
+ */
+public class DependencyGraphScheduler implements IAnnotationTransformer, IAlterSuiteListener {
+
+    // Expected duration of a method without recorded history
+    private static final long DEFAULT_DURATION_MILLIS = 1000;
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        annotation.setPriority(0);
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        Map<String, Long> durations = TestDurations.load(Path.of(TestConfig.TEST_DURATIONS_DIR));
+        for (XmlSuite suite : suites) {
+            int threadsNeeded = 1;
+            for (XmlTest test : suite.getTests()) {
+                // All classes of a <test> share its thread pool, so their chains run side by side
+                int testThreads = 0;
+                for (XmlClass xmlClass : test.getClasses()) {
+                    Set<String> selected = new LinkedHashSet<>();
+                    xmlClass.getIncludedMethods().forEach(include -> selected.add(include.getName()));
+                    DependencyGraph graph = DependencyGraph.of(xmlClass.getSupportClass(), selected);
+                    testThreads += plan(graph, durations);
+                }
+                if (test.getClasses().size() > 1) {
+                    System.out.println("'" + test.getName() + "': " + testThreads + " threads for "
+                            + test.getClasses().size() + " classes");
+                }
+                threadsNeeded = Math.max(threadsNeeded, testThreads);
+            }
+
+            if (suite.getParallel() != XmlSuite.ParallelMode.METHODS) {
+                System.err.println("Suite '" + suite.getName() + "' is not parallel=\"methods\"; independent tests will not overlap");
+            } else if (suite.getThreadCount() < threadsNeeded) {
+                if (TestConfig.TEST_THREAD_COUNT > 0) {
+                    // An explicit test.thread.count wins; the run just takes longer than the critical path
+                    System.err.println("test.thread.count " + TestConfig.TEST_THREAD_COUNT + " is below the "
+                            + threadsNeeded + " threads needed to overlap every independent test");
+                } else {
+                    System.out.println("Raising the thread count of '" + suite.getName() + "' from "
+                            + suite.getThreadCount() + " to " + threadsNeeded);
+                    suite.setThreadCount(threadsNeeded);
+                }
+            }
+        }
+    }
+
+    private static int plan(DependencyGraph graph, Map<String, Long> durations) {
+        String simpleName = graph.className().substring(graph.className().lastIndexOf('.') + 1);
+        ToLongFunction<String> duration =
+                method -> durations.getOrDefault(graph.className() + "." + method, DEFAULT_DURATION_MILLIS);
+        long serialMillis = graph.methods().stream().mapToLong(duration).sum();
+        List<String> criticalPath = graph.criticalPath(duration);
+        long criticalMillis = criticalPath.stream().mapToLong(duration).sum();
+        int peak = graph.peakConcurrency(duration);
+        System.out.println(simpleName + ": " + graph.methods().size() + " tests, about " + serialMillis
+                + " ms one after another, " + criticalMillis + " ms on " + peak + " threads (critical path "
+                + String.join(" -> ", criticalPath) + ")");
+        return peak;
+    }
+}
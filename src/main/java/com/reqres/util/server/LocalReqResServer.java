@@ -0,0 +1,297 @@
+package com.reqres.util.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the ReqRes {@code /api/users} endpoints.
+ * Serves the same fixture users as the public API so the suite can run without network access.
+ * Requests are handled on virtual threads and read-only responses are serialized once and reused; responses are
+ * sent with TCP_NODELAY, so many requests in flight are not held back by delayed ACKs.
+ */
+public final class LocalReqResServer {
+
+    private static final String CONTEXT_PATH = "/api";
+    private static final String USERS_PATH = CONTEXT_PATH + "/users";
+    private static final String API_KEY_HEADER = "x-api-key";
+    private static final int DEFAULT_PER_PAGE = 6;
+    // Bounds the page cache and keeps the page arithmetic well inside int range
+    private static final int MAX_PER_PAGE = 100;
+    private static final int NEXT_CREATED_ID = 100;
+    // Pending connections the listener accepts; the default of 50 times out connects when clients open many at once
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MISSING_API_KEY = "{\"error\":\"Missing API key\"}".getBytes(StandardCharsets.UTF_8);
+
+    // Seed users mirroring https://reqres.in/api/users
+    private static final String[][] SEED_USERS = {
+            {"george.bluth@reqres.in", "George", "Bluth"},
+            {"janet.weaver@reqres.in", "Janet", "Weaver"},
+            {"emma.wong@reqres.in", "Emma", "Wong"},
+            {"eve.holt@reqres.in", "Eve", "Holt"},
+            {"charles.morris@reqres.in", "Charles", "Morris"},
+            {"tracey.ramos@reqres.in", "Tracey", "Ramos"},
+            {"michael.lawson@reqres.in", "Michael", "Lawson"},
+            {"lindsay.ferguson@reqres.in", "Lindsay", "Ferguson"},
+            {"tobias.funke@reqres.in", "Tobias", "Funke"},
+            {"byron.fields@reqres.in", "Byron", "Fields"},
+            {"george.edwards@reqres.in", "George", "Edwards"},
+            {"rachel.howell@reqres.in", "Rachel", "Howell"}
+    };
+
+    private static LocalReqResServer sharedInstance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String apiKey;
+    private final JSONObject[] users;
+    private final byte[][] singleUserResponses;
+    private final Map<Long, byte[]> pageResponses = new ConcurrentHashMap<>();
+    private final AtomicInteger createdIds = new AtomicInteger(NEXT_CREATED_ID);
+
+    private LocalReqResServer(int port, String apiKey) throws IOException {
+        this.apiKey = apiKey;
+        this.users = new JSONObject[SEED_USERS.length];
+        this.singleUserResponses = new byte[SEED_USERS.length][];
+        for (int i = 0; i < SEED_USERS.length; i++) {
+            int id = i + 1;
+            JSONObject user = new JSONObject();
+            user.put("id", id);
+            user.put("email", SEED_USERS[i][0]);
+            user.put("first_name", SEED_USERS[i][1]);
+            user.put("last_name", SEED_USERS[i][2]);
+            user.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+            users[i] = user;
+
+            JSONObject single = new JSONObject();
+            single.put("data", user);
+            single.put("support", support());
+            singleUserResponses[i] = single.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        // Without TCP_NODELAY a response sent as headers and body in two writes waits for the client's delayed ACK,
+        // about 40 ms per request. The JDK server reads the property once, when it creates its first server.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), ACCEPT_BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(USERS_PATH, this::handleUsers);
+    }
+
+    /**
+     * Start a new server bound to the loopback interface
+     * @param port Port to bind, or 0 for an ephemeral port
+     * @param apiKey Value required in the x-api-key header, or null to accept any request
+     * @return The started server
+     */
+    public static LocalReqResServer start(int port, String apiKey) {
+        try {
+            LocalReqResServer localServer = new LocalReqResServer(port, apiKey);
+            localServer.server.start();
+            System.out.println("Local ReqRes server started at " + localServer.getBaseUrl());
+            return localServer;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start local ReqRes server on port " + port, e);
+        }
+    }
+
+    /**
+     * Start the JVM-wide server on first use and stop it when the JVM exits
+     * @param port Port to bind, or 0 for an ephemeral port
+     * @param apiKey Value required in the x-api-key header
+     * @return The shared server
+     */
+    public static synchronized LocalReqResServer startShared(int port, String apiKey) {
+        if (sharedInstance == null) {
+            LocalReqResServer localServer = start(port, apiKey);
+            Runtime.getRuntime().addShutdownHook(new Thread(localServer::stop, "local-reqres-shutdown"));
+            sharedInstance = localServer;
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Get the base URL of the API, matching the layout of https://reqres.in/api
+     * @return Base URL including the /api context path
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort() + CONTEXT_PATH;
+    }
+
+    /**
+     * Get the port the server is bound to
+     * @return Bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server and release its threads
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleUsers(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Body is read before the response so keep-alive connections stay reusable
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (apiKey != null && !apiKey.equals(exchange.getRequestHeaders().getFirst(API_KEY_HEADER))) {
+                send(exchange, 401, MISSING_API_KEY);
+                return;
+            }
+
+            try {
+                route(exchange, requestBody);
+            } catch (JSONException e) {
+                send(exchange, 400, error("Request body is not a JSON object"));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error(e.getMessage()));
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange, String requestBody) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals(USERS_PATH) || path.equals(USERS_PATH + "/")) {
+            switch (method) {
+                case "GET" -> send(exchange, 200, listUsers(exchange.getRequestURI().getRawQuery()));
+                case "POST" -> send(exchange, 201, createUser(requestBody));
+                default -> send(exchange, 405, EMPTY_OBJECT);
+            }
+            return;
+        }
+
+        int id = parseId(path.substring(USERS_PATH.length() + 1));
+        switch (method) {
+            case "GET" -> {
+                if (id >= 1 && id <= users.length) {
+                    send(exchange, 200, singleUserResponses[id - 1]);
+                } else {
+                    send(exchange, 404, EMPTY_OBJECT);
+                }
+            }
+            case "PUT", "PATCH" -> send(exchange, 200, updateUser(requestBody));
+            case "DELETE" -> send(exchange, 204, null);
+            default -> send(exchange, 405, EMPTY_OBJECT);
+        }
+    }
+
+    private byte[] listUsers(String query) {
+        int page = Math.max(1, queryInt(query, "page", 1));
+        int perPage = queryInt(query, "per_page", DEFAULT_PER_PAGE);
+        if (perPage < 1 || perPage > MAX_PER_PAGE) {
+            throw new IllegalArgumentException("per_page must be between 1 and " + MAX_PER_PAGE);
+        }
+        int totalPages = (users.length + perPage - 1) / perPage;
+        if (page > totalPages) {
+            // Pages past the end are all empty; rendering them uncached keeps the cache bounded
+            return renderPage(page, perPage);
+        }
+        long cacheKey = ((long) page << 32) | perPage;
+        return pageResponses.computeIfAbsent(cacheKey, key -> renderPage(page, perPage));
+    }
+
+    private byte[] renderPage(int page, int perPage) {
+        JSONArray data = new JSONArray();
+        long from = (long) (page - 1) * perPage;
+        for (long i = from; i < users.length && i < from + perPage; i++) {
+            data.put(users[(int) i]);
+        }
+
+        JSONObject body = new JSONObject();
+        body.put("page", page);
+        body.put("per_page", perPage);
+        body.put("total", users.length);
+        body.put("total_pages", (users.length + perPage - 1) / perPage);
+        body.put("data", data);
+        body.put("support", support());
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] createUser(String requestBody) {
+        JSONObject body = requestJson(requestBody);
+        body.put("id", String.valueOf(createdIds.incrementAndGet()));
+        body.put("createdAt", Instant.now().toString());
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] updateUser(String requestBody) {
+        JSONObject body = requestJson(requestBody);
+        body.put("updatedAt", Instant.now().toString());
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static JSONObject requestJson(String requestBody) {
+        return requestBody.isBlank() ? new JSONObject() : new JSONObject(requestBody);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static int parseId(String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int queryInt(String query, String name, int defaultValue) {
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.regionMatches(0, name, 0, eq) && eq == name.length()) {
+                try {
+                    return Integer.parseInt(pair.substring(eq + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static byte[] error(String message) {
+        return new JSONObject().put("error", message).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static JSONObject support() {
+        JSONObject support = new JSONObject();
+        support.put("url", "https://reqres.in/#support-heading");
+        support.put("text", "To keep ReqRes free, contributions towards server costs are appreciated!");
+        return support;
+    }
+}
@@ -0,0 +1,143 @@
+package com.reqres.util.shard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Verifies that the shards of a run together ran the whole suite, each method exactly once.
+ * Every shard writes its plan, shard-plan-&lt;index&gt;-of-&lt;count&gt;.json, into the Allure results directory;
+ * run by the checkShardPlans Gradle task after testShards and mergeAllureResults, this check fails the build when
+ * a shard is missing, shards planned from different durations, or a method of the suite ran on no shard or on
+ * several.
+ */
+public final class ShardPlanCheck {
+
+    private static final String PREFIX = "shard-plan-";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private ShardPlanCheck() {
+        throw new AssertionError("ShardPlanCheck is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Check the shard plans in a directory
+     * @param args Path of the merged Allure results directory
+     * @throws IOException If a plan cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ShardPlanCheck <allure results directory>");
+        }
+        Path directory = Path.of(args[0]);
+        List<JSONObject> plans = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> listing = Files.list(directory)) {
+                for (Path file : listing.filter(ShardPlanCheck::isPlan).sorted().toList()) {
+                    plans.add(new JSONObject(Files.readString(file, StandardCharsets.UTF_8)));
+                }
+            }
+        }
+        if (plans.isEmpty()) {
+            System.out.println("No shard plans in " + directory + ", skipping shard check");
+            return;
+        }
+
+        List<String> problems = check(plans);
+        if (problems.isEmpty()) {
+            System.out.println("The " + plans.size() + " shards in " + directory + " ran every test method once");
+            return;
+        }
+        System.err.println("Shards in " + directory + " do not add up to the suite:");
+        problems.forEach(problem -> System.err.println("  " + problem));
+        System.exit(1);
+    }
+
+    /**
+     * Compare the plans of all shards of a run
+     * @param plans One plan per shard
+     * @return One description per problem, empty if the shards cover the suite exactly once
+     */
+    static List<String> check(List<JSONObject> plans) {
+        List<String> problems = new ArrayList<>();
+        Set<Integer> counts = new TreeSet<>();
+        plans.forEach(plan -> counts.add(plan.getInt("shard_count")));
+        if (counts.size() > 1) {
+            problems.add("plans for different shard counts " + counts + "; clear the results directory between runs");
+            return problems;
+        }
+        int shardCount = counts.iterator().next();
+
+        Map<Integer, JSONObject> byIndex = new TreeMap<>();
+        for (JSONObject plan : plans) {
+            byIndex.put(plan.getInt("shard_index"), plan);
+        }
+        for (int index = 0; index < shardCount; index++) {
+            if (!byIndex.containsKey(index)) {
+                problems.add("shard " + index + " of " + shardCount + " left no plan; it did not run or its results are missing");
+            }
+        }
+
+        Map<String, List<Integer>> digests = new TreeMap<>();
+        byIndex.forEach((index, plan) ->
+                digests.computeIfAbsent(plan.getString("durations_digest"), digest -> new ArrayList<>()).add(index));
+        if (digests.size() > 1) {
+            problems.add("shards planned from different test durations (digest: shards) " + digests
+                    + "; restore the same test durations on every node");
+        }
+
+        Set<String> suite = new TreeSet<>();
+        Map<String, List<Integer>> ranOn = new TreeMap<>();
+        byIndex.forEach((index, plan) -> {
+            suite.addAll(strings(plan.getJSONArray("suite_methods")));
+            for (String method : strings(plan.getJSONArray("methods"))) {
+                ranOn.computeIfAbsent(method, key -> new ArrayList<>()).add(index);
+            }
+        });
+        for (String method : suite) {
+            List<Integer> shards = ranOn.getOrDefault(method, List.of());
+            if (shards.isEmpty()) {
+                problems.add(method + " ran on no shard");
+            } else if (shards.size() > 1) {
+                problems.add(method + " ran on shards " + shards);
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Get the file name of a shard's plan
+     * @param shardIndex Zero-based shard index
+     * @param shardCount Number of shards
+     * @return File name
+     */
+    public static String fileName(int shardIndex, int shardCount) {
+        return PREFIX + shardIndex + "-of-" + shardCount + ".json";
+    }
+
+    private static boolean isPlan(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(".json");
+    }
+
+    private static List<String> strings(JSONArray array) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < array.length(); i++) {
+            values.add(array.getString(i));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,151 @@
+package com.reqres.util.shard;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * Splits test methods into shards of roughly equal duration.
+ * Methods linked by dependsOnMethods form one unit that always lands on a single shard; a class whose
+ * methods use dependsOnGroups or wildcard dependencies is kept whole. Units are placed longest first on
+ * the least loaded shard, so every shard computes the same plan from the same durations.
+ */
+public final class ShardPlanner {
+
+    private final Map<String, Long> durations;
+    private final long defaultDurationMillis;
+
+    /**
+     * A group of methods of one class that must run on the same shard
+     * @param className Test class name
+     * @param methods Method names
+     * @param weightMillis Expected duration of all methods together
+     */
+    public record Unit(String className, Set<String> methods, long weightMillis) {
+    }
+
+    /**
+     * Constructor for ShardPlanner
+     * @param durations Durations of the previous run in milliseconds, keyed by "class.method"
+     */
+    public ShardPlanner(Map<String, Long> durations) {
+        this.durations = durations;
+        // Methods without history are assumed to take as long as a typical known one
+        long[] known = durations.values().stream().mapToLong(Long::longValue).sorted().toArray();
+        this.defaultDurationMillis = known.length == 0 ? 1000 : Math.max(1, known[known.length / 2]);
+    }
+
+    /**
+     * Group the test methods of a class into units
+     * @param testClass Test class
+     * @param selected Method names to consider, or an empty set for every test method
+     * @return Units of the class, ordered by method name
+     */
+    public List<Unit> units(Class<?> testClass, Set<String> selected) {
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        // Sorted by name: reflection order is unspecified, and every shard must build identical units
+        Map<String, Method> testMethods = new TreeMap<>();
+        for (Method method : testClass.getMethods()) {
+            boolean isTest = method.isAnnotationPresent(Test.class)
+                    || (classLevelTest && method.getDeclaringClass() != Object.class && isPlainPublicMethod(method));
+            if (isTest && (selected.isEmpty() || selected.contains(method.getName()))) {
+                testMethods.putIfAbsent(method.getName(), method);
+            }
+        }
+
+        // Union-find over dependsOnMethods
+        Map<String, String> parent = new HashMap<>();
+        testMethods.keySet().forEach(name -> parent.put(name, name));
+        for (Method method : testMethods.values()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test == null) {
+                continue;
+            }
+            if (test.dependsOnGroups().length > 0) {
+                return List.of(unit(testClass.getName(), testMethods.keySet()));
+            }
+            for (String dependency : test.dependsOnMethods()) {
+                String name = dependency.substring(dependency.lastIndexOf('.') + 1);
+                if (name.contains("*") || !parent.containsKey(name)) {
+                    // Patterns or methods outside the selection: keep the class together to be safe
+                    return List.of(unit(testClass.getName(), testMethods.keySet()));
+                }
+                parent.put(find(parent, method.getName()), find(parent, name));
+            }
+        }
+
+        Map<String, Set<String>> groups = new LinkedHashMap<>();
+        for (String name : testMethods.keySet()) {
+            groups.computeIfAbsent(find(parent, name), root -> new LinkedHashSet<>()).add(name);
+        }
+        List<Unit> units = new ArrayList<>(groups.size());
+        groups.values().forEach(methods -> units.add(unit(testClass.getName(), methods)));
+        return units;
+    }
+
+    /**
+     * Assign units to shards, longest first onto the least loaded shard
+     * @param units All units of the run
+     * @param shardCount Number of shards
+     * @return Units per shard, indexed by shard
+     */
+    public static List<List<Unit>> assign(List<Unit> units, int shardCount) {
+        List<Unit> ordered = new ArrayList<>(units);
+        ordered.sort(Comparator.comparingLong(Unit::weightMillis).reversed()
+                .thenComparing(unit -> unit.className() + "#" + String.join(",", unit.methods())));
+
+        List<List<Unit>> shards = new ArrayList<>(shardCount);
+        long[] load = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Unit unit : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).add(unit);
+            load[lightest] += unit.weightMillis();
+        }
+        return shards;
+    }
+
+    private Unit unit(String className, Set<String> methods) {
+        long weight = 0;
+        for (String method : methods) {
+            weight += durations.getOrDefault(className + "." + method, defaultDurationMillis);
+        }
+        return new Unit(className, Collections.unmodifiableSet(new TreeSet<>(methods)), weight);
+    }
+
+    private static boolean isPlainPublicMethod(Method method) {
+        return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && Arrays.stream(method.getAnnotations())
+                        .noneMatch(annotation -> annotation.annotationType().getPackageName().equals("org.testng.annotations"));
+    }
+
+    private static String find(Map<String, String> parent, String name) {
+        String root = name;
+        while (!parent.get(root).equals(root)) {
+            root = parent.get(root);
+        }
+        parent.put(name, root);
+        return root;
+    }
+}
@@ -0,0 +1,119 @@
+package com.reqres.util.shard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.reqres.config.TestConfig;
+import com.reqres.util.shard.ShardPlanner.Unit;
+
+/**
+ * Restricts every suite to the methods of this JVM's shard (test.shard.index of test.shard.count).
+ * Shards that plan from the same recorded durations together run every method exactly once; shards given
+ * different durations files do not, so each shard logs a digest of its durations and writes its plan next to its
+ * Allure results, where {@link ShardPlanCheck} verifies that the merged shards cover the suite.
+ * Only suites listing {@code <classes>} are split; {@code <packages>} are left to every shard.
+ */
+public class ShardingSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int shardCount = TestConfig.TEST_SHARD_COUNT;
+        int shardIndex = TestConfig.TEST_SHARD_INDEX;
+        if (shardCount <= 1) {
+            return;
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("test.shard.index must be between 0 and " + (shardCount - 1) + ", got " + shardIndex);
+        }
+
+        Map<String, Long> durations = TestDurations.load(Path.of(TestConfig.TEST_DURATIONS_DIR));
+        String durationsDigest = TestDurations.digest(durations);
+        ShardPlanner planner = new ShardPlanner(durations);
+        Map<XmlClass, List<Unit>> unitsByClass = new IdentityHashMap<>();
+        List<Unit> allUnits = new ArrayList<>();
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                for (XmlClass xmlClass : test.getClasses()) {
+                    Set<String> selected = new LinkedHashSet<>();
+                    xmlClass.getIncludedMethods().forEach(include -> selected.add(include.getName()));
+                    List<Unit> units = planner.units(xmlClass.getSupportClass(), selected);
+                    unitsByClass.put(xmlClass, units);
+                    allUnits.addAll(units);
+                }
+            }
+        }
+
+        Set<Unit> ownUnits = Collections.newSetFromMap(new IdentityHashMap<>());
+        ownUnits.addAll(ShardPlanner.assign(allUnits, shardCount).get(shardIndex));
+        long expectedMillis = 0;
+        List<String> ownMethods = new ArrayList<>();
+        for (Unit unit : ownUnits) {
+            expectedMillis += unit.weightMillis();
+            unit.methods().forEach(method -> ownMethods.add(unit.className() + "." + method));
+        }
+        List<String> suiteMethods = new ArrayList<>();
+        for (Unit unit : allUnits) {
+            unit.methods().forEach(method -> suiteMethods.add(unit.className() + "." + method));
+        }
+
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                List<XmlClass> keptClasses = new ArrayList<>();
+                for (XmlClass xmlClass : test.getClasses()) {
+                    List<XmlInclude> includes = new ArrayList<>();
+                    for (Unit unit : unitsByClass.get(xmlClass)) {
+                        if (ownUnits.contains(unit)) {
+                            unit.methods().forEach(method -> includes.add(new XmlInclude(method)));
+                        }
+                    }
+                    if (!includes.isEmpty()) {
+                        xmlClass.setIncludedMethods(includes);
+                        keptClasses.add(xmlClass);
+                    }
+                }
+                test.setClasses(keptClasses);
+            }
+            // A <test> left without classes would otherwise run nothing and still report as a test
+            suite.getTests().removeIf(test -> test.getClasses().isEmpty() && test.getPackages().isEmpty());
+        }
+        System.out.println("Shard " + shardIndex + " of " + shardCount + ": " + ownUnits.size() + " of "
+                + allUnits.size() + " test units, about " + expectedMillis + " ms, planned from " + durations.size()
+                + " recorded durations (digest " + durationsDigest + ")");
+        writePlan(shardIndex, shardCount, durationsDigest, ownMethods, suiteMethods);
+    }
+
+    private static void writePlan(int shardIndex, int shardCount, String durationsDigest,
+                                  List<String> ownMethods, List<String> suiteMethods) {
+        JSONObject plan = new JSONObject();
+        plan.put("shard_index", shardIndex);
+        plan.put("shard_count", shardCount);
+        plan.put("durations_digest", durationsDigest);
+        plan.put("methods", new JSONArray(ownMethods.stream().sorted().toList()));
+        plan.put("suite_methods", new JSONArray(suiteMethods.stream().sorted().toList()));
+        Path file = Path.of(TestConfig.ALLURE_RESULTS_DIR).resolve(ShardPlanCheck.fileName(shardIndex, shardCount));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, plan.toString(2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // Without the plan the shards cannot be checked afterwards, but the tests themselves can still run
+            System.err.println("Error writing shard plan " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.reqres.util.shard;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import com.reqres.config.TestConfig;
+
+/**
+ * TestNG reporter that saves how long each test method took, summed over its invocations,
+ * so the next run can balance its shards with {@link ShardPlanner}.
+ */
+public class TestDurationReporter implements IReporter {
+
+    @Override
+    public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+        Map<String, Long> durations = new HashMap<>();
+        for (ISuite suite : suites) {
+            for (ISuiteResult suiteResult : suite.getResults().values()) {
+                ITestContext context = suiteResult.getTestContext();
+                addAll(durations, context.getPassedTests().getAllResults());
+                addAll(durations, context.getFailedTests().getAllResults());
+                addAll(durations, context.getSkippedTests().getAllResults());
+            }
+        }
+        if (durations.isEmpty()) {
+            return;
+        }
+
+        Path file = Path.of(TestConfig.TEST_DURATIONS_DIR)
+                .resolve(TestDurations.fileName(TestConfig.TEST_SHARD_INDEX, TestConfig.TEST_SHARD_COUNT));
+        try {
+            TestDurations.write(file, durations);
+            System.out.println("Test durations written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error writing test durations: " + e.getMessage());
+        }
+    }
+
+    private static void addAll(Map<String, Long> durations, Iterable<ITestResult> results) {
+        for (ITestResult result : results) {
+            String key = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
+            durations.merge(key, Math.max(0, result.getEndMillis() - result.getStartMillis()), Long::sum);
+        }
+    }
+}
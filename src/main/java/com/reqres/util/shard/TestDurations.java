@@ -0,0 +1,108 @@
+package com.reqres.util.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.json.JSONObject;
+
+/**
+ * Reads and writes test durations of previous runs, one JSON file per shard, keyed by "class.method".
+ */
+public final class TestDurations {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class
+     */
+    private TestDurations() {
+        throw new AssertionError("TestDurations is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Merge every durations file in a directory; when files disagree, the newest one wins
+     * @param directory Directory holding the durations files
+     * @return Durations in milliseconds, empty if the directory does not exist
+     */
+    public static Map<String, Long> load(Path directory) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return durations;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(TestDurations::lastModified).thenComparing(Path::toString))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list test durations in " + directory, e);
+        }
+        for (Path file : files) {
+            try {
+                JSONObject json = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+                for (String key : json.keySet()) {
+                    durations.put(key, json.getLong(key));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read test durations " + file, e);
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Write the durations of one shard
+     * @param file Target file
+     * @param durations Durations in milliseconds, keyed by "class.method"
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path file, Map<String, Long> durations) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, new JSONObject(new TreeMap<>(durations)).toString(2), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Fingerprint durations, so shards can tell whether they planned from the same ones
+     * @param durations Durations in milliseconds, keyed by "class.method"
+     * @return First 12 hex digits of the SHA-256 of the sorted entries
+     */
+    public static String digest(Map<String, Long> durations) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        new TreeMap<>(durations).forEach((key, millis) ->
+                sha256.update((key + "=" + millis + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(sha256.digest()).substring(0, 12);
+    }
+
+    /**
+     * Get the file name of a shard's durations
+     * @param shardIndex Zero-based shard index
+     * @param shardCount Number of shards
+     * @return File name
+     */
+    public static String fileName(int shardIndex, int shardCount) {
+        return shardCount <= 1 ? "durations.json" : "durations-" + shardIndex + "-of-" + shardCount + ".json";
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
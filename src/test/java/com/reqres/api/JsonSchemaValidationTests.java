@@ -0,0 +1,132 @@
+package com.reqres.api;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.reqres.util.api.schema.JsonSchemas;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+
+/**
+ * Checks the streaming schema validator against invalid documents, which the live API tests never send.
+ * Uses the shipped /users schemas and a closed fixture schema with unbounded numbers.
+ */
+@Feature("Response Schema Validation")
+public class JsonSchemaValidationTests {
+
+    private static final String FIXTURE = "fixtures/strict-record.json";
+    private static final String VALID_RECORD =
+            "{\"id\": 7, \"count\": 3, \"ratio\": 0.5, \"email\": \"a@b.io\", \"tags\": [\"x\"]}";
+    private static final String VALID_USER = "{\"id\":1,\"email\":\"george.bluth@reqres.in\",\"first_name\":\"George\","
+            + "\"last_name\":\"Bluth\",\"avatar\":\"https://reqres.in/img/faces/1-image.jpg\"}";
+
+    private static List<String> validate(String schema, String json) {
+        return JsonSchemas.validate(schema, new StringReader(json));
+    }
+
+    @DataProvider(name = "validDocuments")
+    public Object[][] validDocuments() {
+        return new Object[][] {
+                {FIXTURE, VALID_RECORD},
+                {FIXTURE, "{\"id\": 1.0, \"count\": 1e2, \"ratio\": -0, \"email\": \"a@b.io\", \"tags\": [], "
+                        + "\"anything\": [null, true, {\"x\": -1.5E-3}]}"},
+                {FIXTURE, " {\"id\":0,\"count\":-12,\"ratio\":2.50e+1,\"email\":\"a@b.io\",\"tags\":[\"a\",\"b\",\"c\"],"
+                        + "\"createdAt\":\"2024-05-01T10:15:30.123Z\"} \n"},
+                {"user-page.json", "{\"page\":1,\"per_page\":1,\"total\":12,\"total_pages\":12,\"data\":[" + VALID_USER
+                        + "],\"support\":{\"url\":\"https://reqres.in/#support-heading\",\"text\":\"thanks\"}}"},
+                {"single-user.json", "{\"data\":" + VALID_USER + "}"},
+                {"created-user.json", "{\"name\":\"\\u00c5sa \\\"Q\\\"\",\"job\":\"QA\",\"id\":\"101\","
+                        + "\"createdAt\":\"2024-05-01T10:15:30.123Z\"}"},
+        };
+    }
+
+    @Test(dataProvider = "validDocuments")
+    @Description("Verify that valid documents pass without violations")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Schema Violations")
+    public void testValidDocumentPasses(String schema, String json) {
+        assertEquals(validate(schema, json), List.of(), "Valid document should have no violations");
+    }
+
+    @DataProvider(name = "invalidDocuments")
+    public Object[][] invalidDocuments() {
+        return new Object[][] {
+                {"missing required properties", FIXTURE,
+                        "{\"id\": 7, \"ratio\": 0.5, \"tags\": []}",
+                        List.of("/ is missing required property 'count'", "/ is missing required property 'email'")},
+                {"wrong types", FIXTURE,
+                        "{\"id\": \"7\", \"count\": true, \"ratio\": null, \"email\": 5, \"tags\": {}}",
+                        List.of("/id is string, expected integer", "/count is boolean, expected integer",
+                                "/ratio is null, expected number or integer", "/email is integer, expected string",
+                                "/tags is object, expected array")},
+                {"fraction where an integer is expected", FIXTURE,
+                        "{\"id\": 1.5, \"count\": 2e-1, \"ratio\": 1, \"email\": \"a@b.io\", \"tags\": []}",
+                        List.of("/id is number, expected integer", "/count is number, expected integer")},
+                {"bad formats", FIXTURE,
+                        "{\"id\": 1, \"count\": 1, \"ratio\": 1, \"email\": \"not-an-email\", \"tags\": [],"
+                                + " \"createdAt\": \"yesterday\"}",
+                        List.of("/email is not a valid email: \"not-an-email\"",
+                                "/createdAt is not a valid date-time: \"yesterday\"")},
+                {"extra properties", FIXTURE,
+                        "{\"id\": 1, \"count\": 1, \"ratio\": 1, \"email\": \"a@b.io\", \"tags\": [], \"extra\": {\"id\": \"x\"}}",
+                        List.of("/extra is not an allowed property")},
+                {"array items and size", FIXTURE,
+                        "{\"id\": 1, \"count\": 1, \"ratio\": 1, \"email\": \"a@b.io\", \"tags\": [\"a\", 2, \"c\", \"d\"]}",
+                        List.of("/tags/1 is integer, expected string", "/tags has 4 items, expected at most 3")},
+                {"nested user through $ref", "user-page.json",
+                        "{\"page\":0,\"per_page\":6,\"total\":12,\"total_pages\":2,\"data\":[{\"id\":1,\"email\":\"x\","
+                                + "\"first_name\":\"\",\"last_name\":\"B\"}]}",
+                        List.of("/page is 0, expected at least 1.0", "/data/0/email is not a valid email: \"x\"",
+                                "/data/0/first_name is 0 characters long, expected at least 1",
+                                "/data/0 is missing required property 'avatar'")},
+                // required only applies to objects
+                {"root of the wrong type", "single-user.json", "[]", List.of("/ is array, expected object")},
+        };
+    }
+
+    @Test(dataProvider = "invalidDocuments")
+    @Description("Verify that each schema violation is reported with its JSON pointer")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Schema Violations")
+    public void testViolationsAreReported(String label, String schema, String json, List<String> expected) {
+        assertEquals(validate(schema, json), expected, "Violations should be reported exactly (" + label + ")");
+    }
+
+    @DataProvider(name = "malformedDocuments")
+    public Object[][] malformedDocuments() {
+        return new Object[][] {
+                {"{\"count\": 1-2}", "Malformed JSON at character 11: invalid number '1-'"},
+                {"{\"count\": --}", "Malformed JSON at character 11: invalid number, expected a digit"},
+                {"{\"count\": 1e}", "Malformed JSON at character 12: invalid number, expected a digit in the exponent"},
+                {"{\"count\": 1.}", "Malformed JSON at character 12: invalid number, expected a digit after '.'"},
+                {"{\"count\": 01}", "Malformed JSON at character 11: invalid number '01'"},
+                {"{\"count\": +1}", "Malformed JSON at character 10: unexpected character '+'"},
+                {"{\"anything\": 1e+}", "Malformed JSON at character 16: invalid number, expected a digit in the exponent"},
+                {"{\"id\": 1,}", "Malformed JSON at character 10: expected '\"'"},
+                {"{\"id\": 1", "Malformed JSON at character 8: expected ',' or '}' in object"},
+                {"{\"id\": tru}", "Malformed JSON at character 11: invalid literal, expected true"},
+                {"{\"email\": \"a@b.io}", "Malformed JSON at character 18: unterminated string"},
+                {"{\"email\": \"a\\qb\"}", "Malformed JSON at character 14: invalid escape in string"},
+                {"{} {}", "Malformed JSON at character 3: unexpected content after the root value"},
+                {"", "Malformed JSON at character 0: unexpected end of document"},
+        };
+    }
+
+    @Test(dataProvider = "malformedDocuments")
+    @Description("Verify that malformed JSON is rejected with its position")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Malformed JSON")
+    public void testMalformedJsonIsRejected(String json, String expected) {
+        List<String> violations = validate(FIXTURE, json);
+
+        assertEquals(violations.get(violations.size() - 1), expected, "Malformed JSON should be the last violation");
+    }
+}
@@ -1,37 +1,45 @@
 package com.reqres.api;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.json.JSONObject;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import com.reqres.util.api.RestUtil;
-import com.reqres.util.data.TestDataFactory;
+import com.reqres.util.api.UserPageCrawler;
+import com.reqres.util.api.model.CreatedUser;
+import com.reqres.util.api.model.UpdatedUser;
+import com.reqres.util.api.model.User;
+import com.reqres.util.api.model.UserPage;
+import com.reqres.util.api.model.UserResponses;
+import com.reqres.util.api.schema.UserResponseSpecs;
 import com.reqres.util.data.TestDataLoader;
 import com.reqres.util.data.TestDataManager;
+import com.reqres.util.data.UserPayloadEncoder;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
-import io.qameta.allure.restassured.AllureRestAssured;
 import static io.restassured.RestAssured.given;
-import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 
 @Feature("User API Tests")
 public class UserApiTests {
-    private int userIdToTest;
     private TestDataManager dataManager;
     private JSONObject testData;
-    private static final String API_KEY = "reqres-free-v1";
-    private static final String HEADER = "x-api-key";
+    
+    // Data scopes for each dependency chain, so parallel chains never share keys
+    private static final String USER_LOOKUP_CHAIN = "userLookup";
+    private static final String USER_CREATION_CHAIN = "userCreation";
     
     @BeforeClass
     public void setup() {
@@ -70,23 +78,21 @@ public class UserApiTests {
         int defaultPerPage = paginationData.getInt("default_per_page");
         
         Response response = given()
-                .filter(new AllureRestAssured())
                 .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
                 .when()
                 .get("/users")
                 .then()
-                .statusCode(200)
+                .spec(UserResponseSpecs.userPage())
                 .extract().response();
         
-        JsonPath jsonPath = response.jsonPath();
-        List<Object> userList = jsonPath.getList("data");
+        UserPage userPage = UserResponses.userPage(response);
+        List<User> userList = userPage.data();
         
         assertNotNull(userList, "User list should not be null");
         assertFalse(userList.isEmpty(), "User list should not be empty");
         
         int usersCount = userList.size();
-        int perPage = jsonPath.getInt("per_page");
+        int perPage = userPage.perPage();
         assertEquals(usersCount, perPage, "Number of users should match per_page value");
         assertEquals(perPage, defaultPerPage, "Per page value should match expected default");
         
@@ -95,7 +101,7 @@ public class UserApiTests {
     
     /**
      * Test Case 2: GET /api/users with query params
-     * Add query params that will return full list of users
+     * Page through the full list of users
      * Extract the id of the user where email = 'charles.morris@reqres.in'
      */
     @Test(priority = 2)
@@ -111,34 +117,21 @@ public class UserApiTests {
         
         // Get pagination settings from test data
         JSONObject paginationData = TestDataLoader.getPaginationData();
-        int defaultPage = paginationData.getInt("default_page");
         int defaultPerPage = paginationData.getInt("default_per_page");
         
-        // Request all users (page 1)
-        Response response = given()
-                .filter(new AllureRestAssured())
-                .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
-                .queryParam("page", defaultPage)
-                .queryParam("per_page", defaultPerPage)
-                .when()
-                .get("/users")
-                .then()
-                .statusCode(200)
-                .extract().response();
-        
-        JsonPath jsonPath = response.jsonPath();
-        
-        // Find user with specified email
-        List<Integer> ids = jsonPath.getList("data.findAll { user -> user.email == '" + emailToFind + "' }.id");
+        // Scan all pages, fetching the ones after page 1 concurrently and stopping at the first match
+        UserPageCrawler crawler = new UserPageCrawler(
+                RestUtil.getRequestSpec(), defaultPerPage, UserPageCrawler.DEFAULT_MAX_CONCURRENCY);
+        Optional<User> match = crawler.findFirst(user -> user.email().equals(emailToFind));
         
-        assertFalse(ids.isEmpty(), "User with email " + emailToFind + " should exist");
+        assertTrue(match.isPresent(), "User with email " + emailToFind + " should exist");
         
-        userIdToTest = ids.get(0);
+        int userIdToTest = match.get().id();
         
         // Store user ID for use in other tests
-        dataManager.storeData(TestDataManager.KEY_USER_ID, userIdToTest);
-        dataManager.storeData(TestDataManager.KEY_USER_EMAIL, emailToFind);
+        TestDataManager chainData = dataManager.scope(USER_LOOKUP_CHAIN);
+        chainData.storeData(TestDataManager.KEY_USER_ID, userIdToTest);
+        chainData.storeData(TestDataManager.KEY_USER_EMAIL, emailToFind);
         
         System.out.println("Found user ID: " + userIdToTest + " for email: " + emailToFind);
     }
@@ -162,32 +155,31 @@ public class UserApiTests {
         String expectedLastName = defaultUser.getString("last_name");
         
         // Retrieve user ID from test data manager
-        int userId = dataManager.retrieveData(TestDataManager.KEY_USER_ID);
+        TestDataManager chainData = dataManager.scope(USER_LOOKUP_CHAIN);
+        int userId = chainData.retrieveData(TestDataManager.KEY_USER_ID);
         
         Response response = given()
-                .filter(new AllureRestAssured())
                 .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
                 .pathParam("id", userId)
                 .when()
                 .get("/users/{id}")
                 .then()
-                .statusCode(200)
+                .spec(UserResponseSpecs.singleUser())
                 .extract().response();
         
-        JsonPath jsonPath = response.jsonPath();
+        User user = UserResponses.singleUser(response);
         
-        String email = jsonPath.getString("data.email");
-        String firstName = jsonPath.getString("data.first_name");
-        String lastName = jsonPath.getString("data.last_name");
+        String email = user.email();
+        String firstName = user.firstName();
+        String lastName = user.lastName();
         
         assertEquals(email, expectedEmail, "Email should match");
         assertEquals(firstName, expectedFirstName, "First name should match");
         assertEquals(lastName, expectedLastName, "Last name should match");
         
         // Store user details for use in other tests
-        dataManager.storeData(TestDataManager.KEY_USER_FIRST_NAME, firstName);
-        dataManager.storeData(TestDataManager.KEY_USER_LAST_NAME, lastName);
+        chainData.storeData(TestDataManager.KEY_USER_FIRST_NAME, firstName);
+        chainData.storeData(TestDataManager.KEY_USER_LAST_NAME, lastName);
     }
     
     /**
@@ -207,31 +199,26 @@ public class UserApiTests {
         String name = createUserData.getString("name");
         String job = createUserData.getString("job");
         
-        // Create user request data using factory
-        JSONObject userJson = TestDataFactory.createUserData(name, job);
-        
-        // Send POST request
+        // Send POST request with the body encoded straight to bytes
         Response response = given()
-                .filter(new AllureRestAssured())
                 .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
-                .body(userJson.toString())
+                .body(UserPayloadEncoder.userBody(name, job))
                 .when()
                 .post("/users")
                 .then()
-                .statusCode(201)
+                .spec(UserResponseSpecs.createdUser())
                 .extract().response();
         
-        JsonPath jsonPath = response.jsonPath();
-        String createdId = jsonPath.getString("id");
+        CreatedUser createdUser = UserResponses.createdUser(response);
+        String createdId = createdUser.id();
 
         assertNotNull(createdId, "Created user should have an ID");
-        assertEquals(jsonPath.getString("name"), name, "Name should match");
-        assertEquals(jsonPath.getString("job"), job, "Job should match");
-        assertNotNull(jsonPath.getString("createdAt"), "Created date should be present");
+        assertEquals(createdUser.name(), name, "Name should match");
+        assertEquals(createdUser.job(), job, "Job should match");
+        assertNotNull(createdUser.createdAt(), "Created date should be present");
         
         // Store created user ID
-        dataManager.storeData(TestDataManager.KEY_CREATED_USER_ID, createdId);
+        dataManager.scope(USER_CREATION_CHAIN).storeData(TestDataManager.KEY_CREATED_USER_ID, createdId);
     }
     
     /**
@@ -252,29 +239,24 @@ public class UserApiTests {
         String updatedJob = updateUserData.getString("job");
         
         // Retrieve user ID from test data manager
-        int userId = dataManager.retrieveData(TestDataManager.KEY_USER_ID);
-        
-        // Update user request data using factory
-        JSONObject updateJson = TestDataFactory.updateUserData(updatedName, updatedJob);
+        int userId = dataManager.scope(USER_LOOKUP_CHAIN).retrieveData(TestDataManager.KEY_USER_ID);
         
-        // Send PUT request
+        // Send PUT request with the body encoded straight to bytes
         Response response = given()
-                .filter(new AllureRestAssured())    
                 .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
                 .pathParam("id", userId)
-                .body(updateJson.toString())
+                .body(UserPayloadEncoder.userBody(updatedName, updatedJob))
                 .when()
                 .put("/users/{id}")
                 .then()
-                .statusCode(200)
+                .spec(UserResponseSpecs.updatedUser())
                 .extract().response();
         
-        JsonPath jsonPath = response.jsonPath();
+        UpdatedUser updatedUser = UserResponses.updatedUser(response);
         
-        assertEquals(jsonPath.getString("name"), updatedName, "Updated name should match");
-        assertEquals(jsonPath.getString("job"), updatedJob, "Updated job should match");
-        assertNotNull(jsonPath.getString("updatedAt"), "Updated date should be present");
+        assertEquals(updatedUser.name(), updatedName, "Updated name should match");
+        assertEquals(updatedUser.job(), updatedJob, "Updated job should match");
+        assertNotNull(updatedUser.updatedAt(), "Updated date should be present");
     }
     
     /**
@@ -289,12 +271,10 @@ public class UserApiTests {
         System.out.println("Running Test 6: DELETE /api/users/{id}");
         
         // Retrieve user ID from test data manager
-        int userId = dataManager.retrieveData(TestDataManager.KEY_USER_ID);
+        int userId = dataManager.scope(USER_LOOKUP_CHAIN).retrieveData(TestDataManager.KEY_USER_ID);
         
         given()
-                .filter(new AllureRestAssured())
                 .spec(RestUtil.getRequestSpec())
-                .header(HEADER, API_KEY)
                 .pathParam("id", userId)
                 .when()
                 .delete("/users/{id}")
@@ -0,0 +1,130 @@
+package com.reqres.api;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.reqres.perf.LatencyBudget;
+import com.reqres.util.api.RestUtil;
+import com.reqres.util.data.TestDataFactory;
+import com.reqres.util.data.UserPayloadEncoder;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import static io.restassured.RestAssured.given;
+
+/**
+ * Latency tests for GET, POST, PUT and DELETE /api/users.
+ * Each test sends its request latency.samples times (default 20), so its budget is a percentile over enough
+ * requests, and every endpoint gets enough requests per run for the latency baseline check.
+ * Response content is covered by UserApiTests; these tests only check the status code.
+ */
+@Feature("User API Latency Tests")
+public class UserLatencyTests {
+
+    private static final int SAMPLES = Math.max(1, Integer.getInteger("latency.samples", 20));
+
+    // IDs 1..12 are the users seeded by ReqRes
+    private static final int SEEDED_USER_COUNT = 12;
+    private static final long SEED = 42;
+
+    @BeforeClass
+    public void setup() {
+        RestUtil.setupRestAssured();
+        // Open the connection before any budget is measured, so a cold first request does not count
+        given()
+                .spec(RestUtil.getRequestSpec())
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    @Description("Verify that listing users stays within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("List Users Latency")
+    @LatencyBudget(endpoint = "GET /users", percentile = 95, maxMillis = 500)
+    public void testListUsersLatency() {
+        for (int i = 0; i < SAMPLES; i++) {
+            given()
+                    .spec(RestUtil.getRequestSpec())
+                    .queryParam("page", i % 2 + 1)
+                    .when()
+                    .get("/users")
+                    .then()
+                    .statusCode(200);
+        }
+    }
+
+    @Test
+    @Description("Verify that getting a single user stays within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Get Single User Latency")
+    @LatencyBudget(endpoint = "GET /users/{id}", percentile = 95, maxMillis = 300)
+    public void testGetSingleUserLatency() {
+        for (int i = 0; i < SAMPLES; i++) {
+            given()
+                    .spec(RestUtil.getRequestSpec())
+                    .pathParam("id", i % SEEDED_USER_COUNT + 1)
+                    .when()
+                    .get("/users/{id}")
+                    .then()
+                    .statusCode(200);
+        }
+    }
+
+    @Test
+    @Description("Verify that creating a user stays within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Create User Latency")
+    @LatencyBudget(endpoint = "POST /users", percentile = 95, maxMillis = 500)
+    public void testCreateUserLatency() {
+        for (int i = 0; i < SAMPLES; i++) {
+            given()
+                    .spec(RestUtil.getRequestSpec())
+                    .body(UserPayloadEncoder.userBody(TestDataFactory.generateName(SEED, i), TestDataFactory.generateJob(SEED, i)))
+                    .when()
+                    .post("/users")
+                    .then()
+                    .statusCode(201);
+        }
+    }
+
+    @Test
+    @Description("Verify that updating a user stays within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Update User Latency")
+    @LatencyBudget(endpoint = "PUT /users/{id}", percentile = 95, maxMillis = 500)
+    public void testUpdateUserLatency() {
+        for (int i = 0; i < SAMPLES; i++) {
+            given()
+                    .spec(RestUtil.getRequestSpec())
+                    .pathParam("id", i % SEEDED_USER_COUNT + 1)
+                    .body(UserPayloadEncoder.userBody(TestDataFactory.generateName(SEED, i), TestDataFactory.generateJob(SEED, i)))
+                    .when()
+                    .put("/users/{id}")
+                    .then()
+                    .statusCode(200);
+        }
+    }
+
+    @Test
+    @Description("Verify that deleting a user stays within its latency budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Delete User Latency")
+    @LatencyBudget(endpoint = "DELETE /users/{id}", percentile = 95, maxMillis = 500)
+    public void testDeleteUserLatency() {
+        for (int i = 0; i < SAMPLES; i++) {
+            given()
+                    .spec(RestUtil.getRequestSpec())
+                    .pathParam("id", i % SEEDED_USER_COUNT + 1)
+                    .when()
+                    .delete("/users/{id}")
+                    .then()
+                    .statusCode(204);
+        }
+    }
+}
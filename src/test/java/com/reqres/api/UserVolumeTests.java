@@ -0,0 +1,217 @@
+package com.reqres.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.reqres.util.api.AsyncUserClient;
+import com.reqres.util.api.AsyncUserClient.CrudChainResult;
+import com.reqres.util.api.RestUtil;
+import com.reqres.util.api.UserProvisioner;
+import com.reqres.util.api.UserProvisioner.ProvisioningResult;
+import com.reqres.util.api.model.CreatedUser;
+import com.reqres.util.api.model.UpdatedUser;
+import com.reqres.util.api.model.UserResponses;
+import com.reqres.util.api.schema.UserResponseSpecs;
+import com.reqres.util.data.TestDataFactory;
+import com.reqres.util.data.TestDataManager;
+import com.reqres.util.data.UserDataProviders;
+import com.reqres.util.data.UserDataProviders.GeneratedUser;
+import com.reqres.util.data.UserDataProviders.UserBatch;
+import com.reqres.util.data.UserPayloadEncoder;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import static io.restassured.RestAssured.given;
+import io.restassured.response.Response;
+
+/**
+ * Data-driven volume tests for POST, PUT and DELETE /api/users over generated payloads.
+ * Set -P data.users.count to control the number of payloads.
+ */
+@Feature("User API Volume Tests")
+public class UserVolumeTests {
+    
+    // Create, update and delete chains in flight at once in testPipelinedCrudChains
+    private static final int MAX_CHAINS_IN_FLIGHT = 64;
+    // Rejected by the API with 400, to make single creates of a batch fail
+    private static final byte[] MALFORMED_BODY = "{\"name\": ".getBytes(StandardCharsets.UTF_8);
+    
+    @BeforeClass
+    public void setup() {
+        RestUtil.setupRestAssured();
+    }
+    
+    @Test(dataProvider = UserDataProviders.GENERATED_USER_BATCHES, dataProviderClass = UserDataProviders.class)
+    @Description("Verify that generated users can be created")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Create Generated Users")
+    public void testCreateGeneratedUsers(UserBatch batch) {
+        batch.forEachUser(user -> {
+            // Encoded straight to bytes; no JSONObject or String is built per request
+            byte[] userBody = UserPayloadEncoder.userBody(user.name(), user.job());
+            
+            Response response = given()
+                    .spec(RestUtil.getRequestSpec())
+                    .body(userBody)
+                    .when()
+                    .post("/users")
+                    .then()
+                    .spec(UserResponseSpecs.createdUser())
+                    .extract().response();
+            
+            // The schema check covers the shape of the body, e.g. that id and createdAt are present
+            CreatedUser createdUser = UserResponses.createdUser(response);
+            assertEquals(createdUser.name(), user.name(), "Name should match");
+            assertEquals(createdUser.job(), user.job(), "Job should match");
+        });
+    }
+    
+    @Test(dataProvider = UserDataProviders.GENERATED_USER_BATCHES, dataProviderClass = UserDataProviders.class)
+    @Description("Verify that users can be updated with generated data")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Update Generated Users")
+    public void testUpdateGeneratedUsers(UserBatch batch) {
+        batch.forEachUser(user -> {
+            byte[] updateBody = UserPayloadEncoder.userBody(user.name(), user.job());
+            
+            Response response = given()
+                    .spec(RestUtil.getRequestSpec())
+                    .pathParam("id", user.seededUserId())
+                    .body(updateBody)
+                    .when()
+                    .put("/users/{id}")
+                    .then()
+                    .spec(UserResponseSpecs.updatedUser())
+                    .extract().response();
+            
+            UpdatedUser updatedUser = UserResponses.updatedUser(response);
+            assertEquals(updatedUser.name(), user.name(), "Updated name should match");
+            assertEquals(updatedUser.job(), user.job(), "Updated job should match");
+        });
+    }
+    
+    @Test
+    @Description("Verify that create, update and delete chains for generated users can run concurrently")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Pipelined CRUD Chains")
+    public void testPipelinedCrudChains() {
+        Semaphore inFlight = new Semaphore(MAX_CHAINS_IN_FLIGHT);
+        AtomicInteger failureCount = new AtomicInteger();
+        AtomicReference<String> firstFailure = new AtomicReference<>();
+        int started = 0;
+        
+        // Chains overlap on a couple of client threads; each is checked when it completes, so none is held afterwards
+        try (AsyncUserClient client = AsyncUserClient.create()) {
+            Iterator<GeneratedUser> users = UserDataProviders.generatedUsers();
+            while (users.hasNext()) {
+                GeneratedUser user = users.next();
+                String updatedJob = user.job() + " lead";
+                inFlight.acquireUninterruptibly();
+                started++;
+                client.createUpdateDelete(user.name(), user.job(), updatedJob).whenComplete((result, error) -> {
+                    try {
+                        String failure = error != null ? error.toString() : checkChain(result, user.name(), updatedJob);
+                        if (failure != null) {
+                            failureCount.incrementAndGet();
+                            firstFailure.compareAndSet(null, "user " + user.index() + ": " + failure);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // Every permit is back once the last chain has completed
+            inFlight.acquireUninterruptibly(MAX_CHAINS_IN_FLIGHT);
+        }
+        
+        assertEquals(failureCount.get(), 0, failureCount.get() + " of " + started + " chains failed, first: " + firstFailure.get());
+    }
+    
+    private static String checkChain(CrudChainResult result, String name, String updatedJob) {
+        if (result.created().id() == null) {
+            return "created user has no ID";
+        }
+        if (!name.equals(result.created().name())) {
+            return "created name " + result.created().name() + ", expected " + name;
+        }
+        if (!updatedJob.equals(result.updated().job())) {
+            return "updated job " + result.updated().job() + ", expected " + updatedJob;
+        }
+        return null;
+    }
+    
+    @Test
+    @Description("Verify that generated users can be provisioned in bulk and their IDs stored")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Bulk Provisioning")
+    public void testBulkProvisionGeneratedUsers() {
+        int count = Integer.getInteger("data.users.count", 10);
+        long seed = Long.getLong("data.users.seed", 42);
+        TestDataManager dataManager = new TestDataManager();
+        
+        ProvisioningResult result;
+        try (AsyncUserClient client = AsyncUserClient.create()) {
+            result = new UserProvisioner(client, UserProvisioner.DEFAULT_MAX_IN_FLIGHT)
+                    .provisionBodies(TestDataFactory.generateUserBodies(seed, count), dataManager);
+        }
+        
+        assertTrue(result.isComplete(), "Failed payloads: " + result.failures());
+        assertEquals(result.requested(), count, "Every payload should be submitted");
+        assertEquals(dataManager.<Integer>retrieveData(TestDataManager.KEY_CREATED_USER_COUNT), Integer.valueOf(count),
+                "Created user count should be stored");
+        for (int i = 0; i < count; i++) {
+            assertEquals(dataManager.<String>retrieveData(TestDataManager.createdUserIdKey(i)), result.createdIds().get(i),
+                    "Created user ID " + i + " should be stored");
+        }
+    }
+    
+    @Test
+    @Description("Verify that failed creates are reported by position while the rest of the batch is provisioned")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Bulk Provisioning")
+    public void testBulkProvisionReportsPartialFailures() {
+        int count = 20;
+        Set<Integer> malformed = Set.of(0, 7, 19);
+        Iterator<byte[]> bodies = IntStream.range(0, count)
+                .mapToObj(i -> malformed.contains(i)
+                        ? MALFORMED_BODY
+                        : UserPayloadEncoder.userBody(TestDataFactory.generateName(42, i), TestDataFactory.generateJob(42, i)))
+                .iterator();
+        TestDataManager dataManager = new TestDataManager();
+        
+        ProvisioningResult result;
+        try (AsyncUserClient client = AsyncUserClient.create()) {
+            result = new UserProvisioner(client, 4).provisionBodies(bodies, dataManager);
+        }
+        
+        assertFalse(result.isComplete(), "Malformed bodies should be reported as failures");
+        assertEquals(result.requested(), count, "Every payload should be submitted despite the failures");
+        assertEquals(result.failures().keySet(), new TreeSet<>(malformed), "Failures should be keyed by payload position");
+        result.failures().values().forEach(message ->
+                assertTrue(message.contains("status 400"), "Failure should carry the response status: " + message));
+        
+        int created = count - malformed.size();
+        assertEquals(result.createdIds().size(), created, "Every well-formed payload should be created");
+        assertEquals(dataManager.<Integer>retrieveData(TestDataManager.KEY_CREATED_USER_COUNT), Integer.valueOf(created),
+                "Only created users should be counted");
+        for (int i = 0; i < created; i++) {
+            assertEquals(dataManager.<String>retrieveData(TestDataManager.createdUserIdKey(i)), result.createdIds().get(i),
+                    "Created user IDs should be stored without gaps for the failed payloads");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reqres.client;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+import com.reqres.util.api.RateLimiter;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+
+@Feature("HTTP Client Throttling")
+public class RateLimiterTests {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    @Description("Verify that a 429 halves the rate and successes raise it back to, but not above, the configured rate")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Rate Limiter")
+    public void testHalveAndRecover() {
+        RateLimiter limiter = new RateLimiter(10, 1, 1);
+
+        limiter.onThrottled(-1);
+        assertEquals(limiter.getRate(), 5, DELTA, "First 429 should halve the rate");
+        limiter.onThrottled(-1);
+        assertEquals(limiter.getRate(), 2.5, DELTA, "Second 429 should halve it again");
+
+        // Each success adds a twentieth of the configured rate
+        limiter.onSuccess();
+        assertEquals(limiter.getRate(), 3, DELTA, "A success should add 0.5 requests/s");
+        for (int i = 0; i < 14; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(limiter.getRate(), 10, DELTA, "Fifteen successes should restore the configured rate");
+        for (int i = 0; i < 20; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(limiter.getRate(), 10, DELTA, "The rate should never rise above the configured rate");
+    }
+
+    @Test
+    @Description("Verify that backing off stops at the minimum rate")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Rate Limiter")
+    public void testBackoffStopsAtMinimumRate() {
+        RateLimiter limiter = new RateLimiter(10, 1, 2);
+        for (int i = 0; i < 10; i++) {
+            limiter.onThrottled(-1);
+        }
+        assertEquals(limiter.getRate(), 2, DELTA, "The rate should not fall below rate.limit.min.per.second");
+    }
+
+    @Test
+    @Description("Verify that the burst is let through and later requests wait for their token")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Rate Limiter")
+    public void testBurstThenSustainedRate() {
+        RateLimiter limiter = new RateLimiter(10, 2, 1);
+
+        assertEquals(limiter.reserve(), 0, "First request of the burst should not wait");
+        assertEquals(limiter.reserve(), 0, "Second request of the burst should not wait");
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(limiter.reserve());
+        assertTrue(waitMillis > 50 && waitMillis <= 100, "Third request should wait about 100 ms at 10/s, waited " + waitMillis);
+    }
+
+    @Test
+    @Description("Verify that Retry-After pauses every caller for that long")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Rate Limiter")
+    public void testRetryAfterPausesCallers() {
+        RateLimiter limiter = new RateLimiter(100, 100, 1);
+
+        limiter.onThrottled(2000);
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(limiter.reserve());
+        assertTrue(waitMillis > 1500 && waitMillis <= 2000, "Next request should wait out Retry-After, waited " + waitMillis);
+    }
+
+    @Test
+    @Description("Verify that a rate of 0 disables the limiter")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Rate Limiter")
+    public void testDisabledLimiter() {
+        RateLimiter limiter = new RateLimiter(0, 1, 1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(limiter.reserve(), 0, "A disabled limiter should never make a request wait");
+        }
+        limiter.onThrottled(5000);
+        assertEquals(limiter.reserve(), 0, "A disabled limiter should ignore 429 responses");
+        assertEquals(limiter.getRate(), 0, DELTA, "A disabled limiter should report rate 0");
+    }
+}
@@ -0,0 +1,125 @@
+package com.reqres.client;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.reqres.util.api.RetryPolicy;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+
+@Feature("HTTP Client Throttling")
+public class RetryPolicyTests {
+
+    private static final int SAMPLES = 1000;
+
+    @Test
+    @Description("Verify that Retry-After is parsed from delta-seconds")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testRetryAfterSeconds() {
+        assertEquals(RetryPolicy.parseRetryAfterMillis("120"), 120_000, "Seconds should be converted to milliseconds");
+        assertEquals(RetryPolicy.parseRetryAfterMillis(" 3 "), 3_000, "Surrounding whitespace should be ignored");
+        assertEquals(RetryPolicy.parseRetryAfterMillis("0"), 0, "Zero seconds means retry now");
+    }
+
+    @Test
+    @Description("Verify that Retry-After is parsed from an HTTP date")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testRetryAfterHttpDate() {
+        String inThirtySeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        long millis = RetryPolicy.parseRetryAfterMillis(inThirtySeconds);
+        // The date has whole seconds, so up to one second is lost
+        assertTrue(millis > 28_000 && millis <= 30_000, "A date 30 s ahead should give about 30000 ms, got " + millis);
+
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(5));
+        assertEquals(RetryPolicy.parseRetryAfterMillis(past), 0, "A date in the past means retry now");
+    }
+
+    @DataProvider(name = "malformedRetryAfter")
+    public Object[][] malformedRetryAfter() {
+        return new Object[][] {
+                {null}, {""}, {"   "}, {"soon"}, {"1.5"}, {"Wed, 32 Foo 2015 07:28:00 GMT"},
+        };
+    }
+
+    @Test(dataProvider = "malformedRetryAfter")
+    @Description("Verify that a missing or malformed Retry-After is reported as absent")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testRetryAfterGarbage(String value) {
+        assertEquals(RetryPolicy.parseRetryAfterMillis(value), -1, "'" + value + "' should be treated as absent");
+    }
+
+    @Test
+    @Description("Verify that backoff without Retry-After stays within the exponential ceiling and the maximum delay")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testExponentialBackoffBounds() {
+        RetryPolicy policy = new RetryPolicy(10, 200, 5000);
+        for (int retries = 0; retries < 10; retries++) {
+            long ceiling = Math.min(5000, 200L << retries);
+            long max = 0;
+            for (int i = 0; i < SAMPLES; i++) {
+                long delay = policy.backoffMillis(retries, -1);
+                assertTrue(delay >= 0 && delay <= ceiling,
+                        "Delay after " + retries + " retries should be within [0, " + ceiling + "], got " + delay);
+                max = Math.max(max, delay);
+            }
+            // Full jitter spreads the delays over the whole range
+            assertTrue(max > ceiling / 2, "Delays after " + retries + " retries should reach the upper half of the range");
+        }
+    }
+
+    @Test
+    @Description("Verify that backoff with Retry-After waits at least that long, capped at the maximum delay")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testRetryAfterBackoffBounds() {
+        RetryPolicy policy = new RetryPolicy(3, 200, 5000);
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = policy.backoffMillis(0, 1000);
+            assertTrue(delay >= 1000 && delay < 1200, "Delay should be Retry-After plus less than one base delay, got " + delay);
+            long capped = policy.backoffMillis(0, 60_000);
+            assertTrue(capped >= 5000 && capped < 5200, "A long Retry-After should be capped at the maximum delay, got " + capped);
+        }
+    }
+
+    @Test
+    @Description("Verify that only idempotent methods are retried, and only while attempts remain")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Retry Policy")
+    public void testCanRetry() {
+        RetryPolicy policy = new RetryPolicy(3, 200, 5000);
+
+        assertFalse(policy.canRetry("POST", 0), "POST is not idempotent and should never be retried");
+        for (String method : new String[] {"GET", "PUT", "DELETE"}) {
+            assertTrue(policy.canRetry(method, 0), method + " should be retried");
+            assertTrue(policy.canRetry(method, 2), method + " should be retried while attempts remain");
+            assertFalse(policy.canRetry(method, 3), method + " should not be retried once attempts are used up");
+        }
+        assertFalse(new RetryPolicy(0, 200, 5000).canRetry("GET", 0), "Zero attempts should disable retrying");
+    }
+
+    @Test
+    @Description("Verify which responses count as throttling")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Retry Policy")
+    public void testIsThrottled() {
+        assertTrue(RetryPolicy.isThrottled(429, -1), "429 is throttling");
+        assertTrue(RetryPolicy.isThrottled(503, 1000), "503 with Retry-After is throttling");
+        assertFalse(RetryPolicy.isThrottled(503, -1), "503 without Retry-After is an outage, not throttling");
+        assertFalse(RetryPolicy.isThrottled(500, 1000), "500 is not throttling");
+    }
+}
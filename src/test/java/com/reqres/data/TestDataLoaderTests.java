@@ -0,0 +1,87 @@
+package com.reqres.data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.json.JSONObject;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+import com.reqres.util.data.StreamingTestDataReader;
+import com.reqres.util.data.TestDataIndex;
+import com.reqres.util.data.TestDataLoader;
+import com.reqres.util.data.TestDataLoader.TestDataRuntimeException;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+
+@Feature("Test Data Loading")
+public class TestDataLoaderTests {
+    private static final String RECORDS_FILE = "/testdata/records.json";
+    
+    @Test
+    @Description("Verify that a section read by streaming matches the section of the fully parsed file")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Streaming Sections")
+    public void testStreamedSectionMatchesFullParse() {
+        JSONObject streamed = StreamingTestDataReader.readSection("/testdata/testdata.json", "users");
+        JSONObject parsed = TestDataLoader.loadTestData().getJSONObject("users");
+        
+        assertEquals(streamed.toString(), parsed.toString(), "Streamed section should match the parsed section");
+    }
+    
+    @Test
+    @Description("Verify that sections after skipped nested values are still found")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Streaming Sections")
+    public void testSectionAfterSkippedValues() {
+        JSONObject pagination = StreamingTestDataReader.readSection(RECORDS_FILE, "pagination");
+        
+        assertEquals(pagination.getInt("default_per_page"), 6, "Per page value should be read past skipped sections");
+    }
+    
+    @Test
+    @Description("Verify that array records are streamed one at a time in file order")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Streaming Records")
+    public void testStreamArrayRecords() {
+        try (Stream<Object> records = StreamingTestDataReader.streamArray(RECORDS_FILE, "users", "records")) {
+            List<Integer> ids = records
+                    .map(record -> ((JSONObject) record).getInt("id"))
+                    .collect(Collectors.toList());
+            
+            assertEquals(ids, List.of(1, 2, 3), "Record IDs should be streamed in order");
+        }
+    }
+    
+    @Test
+    @Description("Verify that a missing section is reported")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Streaming Sections")
+    public void testMissingSection() {
+        assertThrows(TestDataRuntimeException.class, () -> StreamingTestDataReader.readSection(RECORDS_FILE, "missing"));
+    }
+    
+    @Test
+    @Description("Verify that every section decoded from the compiled index matches the parsed JSON")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Compiled Index")
+    public void testCompiledIndexMatchesJson() {
+        TestDataIndex index = TestDataIndex.open("/testdata/testdata.json");
+        assertNotNull(index, "Index should be compiled by the compileTestDataIndex task");
+        
+        JSONObject parsed = TestDataLoader.loadTestData();
+        assertEquals(index.getSections(), parsed.keySet(), "Indexed sections should match the JSON sections");
+        for (String section : parsed.keySet()) {
+            assertTrue(index.readSection(section).similar(parsed.getJSONObject(section)),
+                    "Indexed section '" + section + "' should match the JSON");
+        }
+    }
+}
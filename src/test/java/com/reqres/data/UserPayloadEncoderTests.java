@@ -0,0 +1,86 @@
+package com.reqres.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.json.JSONObject;
+import static org.testng.Assert.assertEquals;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.reqres.util.data.TestDataFactory;
+import com.reqres.util.data.UserPayloadEncoder;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+
+@Feature("Test Data Encoding")
+public class UserPayloadEncoderTests {
+
+    @DataProvider(name = "userFields")
+    public Object[][] userFields() {
+        return new Object[][] {
+                {"plain ascii", "John Doe", "Software Tester"},
+                {"empty", "", ""},
+                {"quotes", "Jo\"hn \"The\" Doe", "\""},
+                {"backslashes", "C:\\Users\\john", "\\\\server\\share\\"},
+                {"named control characters", "tab\there\nnew line", "\b\f\r\n\t"},
+                {"other control characters", "nul\u0000unit\u001fsep", "\u0001\u0007\u000b\u001b"},
+                {"delete and latin-1", "\u007f\u0080\u00a0\u00ff", "M\u00fcller G\u00f6del"},
+                {"two and three byte UTF-8", "\u00c6r\u00f8sk\u00f8bing \u0395\u03bb\u03bb\u03b7\u03bd\u03b9\u03ba\u03ac \u041a\u0438\u0440\u0438\u043b\u043b\u0438\u0446\u0430", "\u65e5\u672c\u8a9e\u306e\u30c6\u30b9\u30c8 \u20b9 \u20ac"},
+                {"emoji", "Ada \ud83d\udc69\u200d\ud83d\udcbb", "\ud83d\ude80 lead \ud83c\udf89\ud83c\udf89"},
+                {"unpaired high surrogate", "end\ud83d", "\ud83dmiddle"},
+                {"unpaired low surrogate", "\ude80start", "mid\ude80dle"},
+                {"reversed surrogate pair", "\ude80\ud83d", "x\udfff\ud800y"},
+                {"json lookalike", "\",\"job\":\"injected", "}{"},
+                {"line separators", "\u2028\u2029", "</script>"},
+        };
+    }
+
+    @Test(dataProvider = "userFields")
+    @Description("Verify that an encoded body parses to the same object as TestDataFactory.createUserData")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("User Payload Encoding")
+    public void testEncodedBodyMatchesCreateUserData(String label, String name, String job) {
+        byte[] body = UserPayloadEncoder.userBody(name, job);
+        JSONObject parsed = new JSONObject(new String(body, StandardCharsets.UTF_8));
+
+        assertEquals(parsed.toMap(), TestDataFactory.createUserData(name, job).toMap(),
+                "Encoded body should parse to the created user data (" + label + ")");
+        assertEquals(parsed.getString("name"), name, "Name should survive encoding unchanged (" + label + ")");
+        assertEquals(parsed.getString("job"), job, "Job should survive encoding unchanged (" + label + ")");
+    }
+
+    @Test
+    @Description("Verify that valid text is encoded as the same UTF-8 bytes as String.getBytes")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("User Payload Encoding")
+    public void testEncodedBytesMatchStandardUtf8() {
+        String name = "Zo\u00eb \u65e5\u672c \ud83d\udc69\u200d\ud83d\udcbb";
+        String job = "Ing\u00e9nieur \u20ac";
+        byte[] expected = ("{\"name\":\"" + name + "\",\"job\":\"" + job + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(UserPayloadEncoder.userBody(name, job), expected, "Bytes should match the JDK's UTF-8 encoder");
+    }
+
+    @Test
+    @Description("Verify that the reused buffer holds only the latest body, however its size changes")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("User Payload Encoding")
+    public void testBufferReuseAcrossSizes() {
+        UserPayloadEncoder encoder = new UserPayloadEncoder();
+        String longName = "\u0001".repeat(500) + "\u00e9".repeat(500);
+
+        encoder.encode(longName, "first");
+        JSONObject grown = new JSONObject(new String(encoder.buffer(), 0, encoder.length(), StandardCharsets.UTF_8));
+        assertEquals(grown.getString("name"), longName, "Body larger than the initial buffer should be complete");
+
+        byte[] small = encoder.encode("Al", "QA").toByteArray();
+        assertEquals(small, "{\"name\":\"Al\",\"job\":\"QA\"}".getBytes(StandardCharsets.UTF_8),
+                "A shorter body should not keep bytes of the previous one");
+        assertEquals(Arrays.copyOf(encoder.buffer(), encoder.length()), small, "Length should cover only the latest body");
+    }
+}